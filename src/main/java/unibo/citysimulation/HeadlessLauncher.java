@@ -0,0 +1,67 @@
+package unibo.citysimulation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import unibo.citysimulation.model.InputModel;
+import unibo.citysimulation.model.simulation.api.SimulationReport;
+import unibo.citysimulation.model.simulation.impl.HeadlessSimulationEngine;
+import unibo.citysimulation.utilities.ConstantAndResourceLoader;
+
+/**
+ * Launcher for batch simulations, running the whole simulation without Swing and without timer pacing.
+ * Optional arguments are, in order: the people slider value, the capacity slider value (both from 0 to 100)
+ * the number of days to simulate, 1 to skip the idle periods, 1 to update people in parallel, the seed
+ * of the random streams, 1 to group people in cohorts and the exact number of people, which overrides
+ * the people slider value.
+ */
+public final class HeadlessLauncher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(HeadlessLauncher.class);
+    private static final int DEFAULT_SLIDER_VALUE = 50;
+    private static final int DEFAULT_CAPACITY = 100;
+    private static final int SEED_ARGUMENT = 5;
+    private static final int COHORT_ARGUMENT = 6;
+    private static final int POPULATION_ARGUMENT = 7;
+
+    private HeadlessLauncher() {
+    }
+
+    /**
+     * Runs a headless simulation and logs its report.
+     *
+     * @param args the people slider value, the capacity slider value, the number of days, the skip idle flag
+     *             the parallel update flag, the seed, the cohort flag and the number of people, all optional
+     */
+    public static void main(final String[] args) {
+        final InputModel inputModel = new InputModel();
+        inputModel.setNumberOfPeople(argumentOrDefault(args, 0, DEFAULT_SLIDER_VALUE));
+        inputModel.setCapacity(argumentOrDefault(args, 1, DEFAULT_CAPACITY));
+        final int days = argumentOrDefault(args, 2, ConstantAndResourceLoader.SIMULATION_TOTAL_DAYS);
+        inputModel.setParallelUpdate(argumentOrDefault(args, 4, 0) != 0);
+        if (args.length > SEED_ARGUMENT) {
+            inputModel.setSeed(Long.parseLong(args[SEED_ARGUMENT]));
+        }
+        inputModel.setCohortMode(argumentOrDefault(args, COHORT_ARGUMENT, 0) != 0);
+        if (args.length > POPULATION_ARGUMENT) {
+            inputModel.setPopulation(Integer.parseInt(args[POPULATION_ARGUMENT]));
+        }
+
+        final boolean skipIdle = argumentOrDefault(args, 3, 0) != 0;
+
+        final SimulationReport report = new HeadlessSimulationEngine(inputModel, days, skipIdle).run();
+
+        LOGGER.info("Simulated {} days with {} people{} in {} ticks ({} ms, {} ticks/s)",
+                report.days(), inputModel.getNumberOfPeople(), inputModel.isCohortMode() ? " in cohorts" : "",
+                report.ticks(),
+                report.elapsedNanos() / 1_000_000, String.format("%.0f", report.ticksPerSecond()));
+        LOGGER.info("Seed: {}", inputModel.getSeed());
+        LOGGER.info("People AT_HOME/MOVING/WORKING (%): {}", report.peopleStateCounts());
+        LOGGER.info("Transport lines congestion (%): {}", report.linesCongestion());
+        LOGGER.info("Business occupation (%): {}", report.businessesOccupation());
+        LOGGER.info("Average money: {}", String.format("%.2f", report.averageMoney()));
+    }
+
+    private static int argumentOrDefault(final String[] args, final int index, final int defaultValue) {
+        return args.length > index ? Integer.parseInt(args[index]) : defaultValue;
+    }
+}
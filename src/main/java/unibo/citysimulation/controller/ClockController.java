@@ -30,6 +30,9 @@ public class ClockController implements ClockObserver {
 
         // Add action listener for the speed button
         clockPanel.addSpeedButtonActionListener(e -> changeClockSpeed());
+
+        // Add action listener for the skip idle toggle
+        clockPanel.addSkipIdleButtonActionListener(e -> clockModel.setSkipIdle(clockPanel.isSkipIdleSelected()));
     }
 
     /**
@@ -49,13 +52,8 @@ public class ClockController implements ClockObserver {
      */
     private void changeClockSpeed() {
         final int speed = clockPanel.changeSpeed();
-        final int updateRate = ConstantAndResourceLoader.TIME_UPDATE_RATE / speed;
-        // Start or update the simulation with the new speed
-        if (clockModel.getTimer() != null) {
-            clockModel.startSimulation(updateRate);
-        } else {
-            clockModel.setUpdateRate(updateRate);
-        }
+        // Update the simulation speed, the running scheduler picks it up without restarting
+        clockModel.setUpdateRate(ConstantAndResourceLoader.TIME_UPDATE_RATE / speed);
     }
 
     /**
@@ -38,7 +38,7 @@ public final class GraphicsController implements ClockObserver {
      */
     private void initialize() {
         // Register this controller as an observer of the clock model
-        cityModel.getClockModel().addObserver(this);
+        cityModel.getClockModel().addViewObserver(this);
 
         // Add an action listener to the legend button to show the legend panel when pressed
         graphicsPanel.addLegendButtonActionListener(e -> showLegendPanel());
@@ -67,7 +67,7 @@ public final class GraphicsController implements ClockObserver {
     @Override
     public void onTimeUpdate(final LocalTime currentTime, final int currentDay) {
         graphicsModel.updateDataset(
-            cityModel.getAllPeople(),
+            cityModel.getPersonStateCounters(),
             cityModel.getTransportLines(),
             cityModel.getBusinesses(),
             cityModel.getClockModel().getUpdateRate());
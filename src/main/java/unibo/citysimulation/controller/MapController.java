@@ -25,6 +25,7 @@ public final class MapController implements MouseListener, ClockObserver {
     private final MapPanel mapPanel;
     private final MapModel mapModel;
     private final CityModel cityModel;
+    private Optional<Zone> selectedZone = Optional.empty();
 
     /**
      * Constructs a MapController object.
@@ -50,7 +51,7 @@ public final class MapController implements MouseListener, ClockObserver {
      * Sets up observers and configures initial transport information and congestion levels.
      */
     private void initialize() {
-        cityModel.getClockModel().addObserver(this);
+        cityModel.getClockModel().addViewObserver(this);
         mapModel.setMaxCoordinates((int) cityModel.getFrameWidth() / 2, (int) cityModel.getFrameHeight());
         mapModel.setTransportInfo(cityModel.getTransportLines());
         mapModel.setTransportCongestion(cityModel.getTransportLines());
@@ -81,7 +82,7 @@ public final class MapController implements MouseListener, ClockObserver {
      * @param y the y-coordinate of the mouse click
      */
     private void updateZoneInfo(final int x, final int y) {
-        final Optional<Zone> selectedZone = cityModel.getZoneByPosition(new Pair<>(x, y));
+        selectedZone = cityModel.getZoneByPosition(new Pair<>(x, y));
         selectedZone.ifPresentOrElse(zone -> updateInfoPanelWithZone(zone, x, y), () -> clearInfoPanel(x, y));
     }
 
@@ -95,6 +96,15 @@ public final class MapController implements MouseListener, ClockObserver {
     private void updateInfoPanelWithZone(final Zone zone, final int x, final int y) {
         infoPanel.updatePositionInfo(x, y);
         infoPanel.updateZoneName(zone.name());
+        updateZoneTotals(zone);
+    }
+
+    /**
+     * Updates the information panel with the totals of the given zone, which the city model reads in constant time.
+     *
+     * @param zone the Zone object representing the selected zone
+     */
+    private void updateZoneTotals(final Zone zone) {
         cityModel.getPeopleInZone(zone.name()).ifPresentOrElse(
                 infoPanel::updateNumberOfPeople,
                 () -> infoPanel.updateNumberOfPeople(0));
@@ -119,7 +129,7 @@ public final class MapController implements MouseListener, ClockObserver {
     }
 
     /**
-     * Updates the map model when the time is updated.
+     * Updates the map model when the time is updated, and the information panel if a zone is selected.
      *
      * @param currentTime the current time
      * @param currentDay  the current day
@@ -131,6 +141,7 @@ public final class MapController implements MouseListener, ClockObserver {
         mapPanel.setLinesColor(mapModel.getColorList());
         mapPanel.setEntities(mapModel.getPersonInfos(cityModel.getAllPeople()),
                 mapModel.getBusinessInfos(cityModel.getBusinesses()));
+        selectedZone.ifPresent(this::updateZoneTotals);
     }
 
     /**
@@ -31,7 +31,7 @@ public class WindowController {
 
     private void initializeControllers() {
         new MapController(cityModel, windowView);
-        cityModel.getClockModel().addObserver(new ClockController(cityModel.getClockModel(), windowView.getClockPanel()));
+        cityModel.getClockModel().addViewObserver(new ClockController(cityModel.getClockModel(), windowView.getClockPanel()));
         new InputController(cityModel, cityModel.getInputModel(), windowView.getInputPanel(), windowView.getClockPanel());
         new GraphicsController(cityModel, windowView.getGraphicsPanel());
     }
@@ -1,10 +1,12 @@
 package unibo.citysimulation.model;
 
 import unibo.citysimulation.model.business.impl.Business;
+import unibo.citysimulation.model.business.impl.PayrollLedger;
 import unibo.citysimulation.model.clock.api.ClockModel;
 import unibo.citysimulation.model.graphics.api.GraphicsModel;
 import unibo.citysimulation.model.map.api.MapModel;
 import unibo.citysimulation.model.person.api.DynamicPerson;
+import unibo.citysimulation.model.person.impl.PersonStateCounters;
 import unibo.citysimulation.model.transport.api.TransportLine;
 import unibo.citysimulation.model.zone.Zone;
 import unibo.citysimulation.utilities.Pair;
@@ -92,11 +94,24 @@ public interface CityModel {
      * @return the list of businesses.
      */
     List<Business> getBusinesses();
+
+    /**
+     * Gets the ledger paying the employees of the businesses, with the journal of the payrolls.
+     * 
+     * @return the payroll ledger, empty before the entities are created.
+     */
+    Optional<PayrollLedger> getPayrollLedger();
     /**
      * get the people.
      * @return the list of all the people in the simulation.
      */
     List<DynamicPerson> getAllPeople();
+    /**
+     * Gets the number of people in every state, kept up to date while the simulation runs.
+     *
+     * @return the state counters of the people, all zero before the entities are created.
+     */
+    PersonStateCounters getPersonStateCounters();
     /**
      * Checks if there are any people present in the city.
      *
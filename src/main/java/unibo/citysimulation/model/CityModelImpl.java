@@ -5,8 +5,11 @@
 package unibo.citysimulation.model;
 
 import unibo.citysimulation.model.business.utilities.EmploymentOfficeData;
+import unibo.citysimulation.model.business.utilities.UnemploymentPool;
 import unibo.citysimulation.model.business.impl.Business;
 import unibo.citysimulation.model.business.impl.BusinessFactoryImpl;
+import unibo.citysimulation.model.business.impl.EmploymentOfficeManager;
+import unibo.citysimulation.model.business.impl.PayrollLedger;
 import unibo.citysimulation.model.clock.api.ClockModel;
 import unibo.citysimulation.model.clock.impl.ClockModelImpl;
 import unibo.citysimulation.model.clock.impl.ClockObserverPerson;
@@ -15,20 +18,24 @@ import unibo.citysimulation.model.graphics.impl.GraphicsModelImpl;
 import unibo.citysimulation.model.map.impl.MapModelImpl;
 import unibo.citysimulation.model.person.api.DynamicPerson;
 import unibo.citysimulation.model.person.impl.PersonFactoryImpl;
+import unibo.citysimulation.model.person.impl.PersonStateCounters;
 import unibo.citysimulation.model.transport.api.TransportLine;
 import unibo.citysimulation.model.transport.impl.TransportFactoryImpl;
 import unibo.citysimulation.model.zone.Boundary;
 import unibo.citysimulation.model.zone.Zone;
+import unibo.citysimulation.model.zone.ZoneAggregates;
 import unibo.citysimulation.model.zone.ZoneCreation;
 import unibo.citysimulation.model.zone.ZoneTableCreation;
 import unibo.citysimulation.utilities.ConstantAndResourceLoader;
 import unibo.citysimulation.utilities.Pair;
+import unibo.citysimulation.utilities.RandomStreams;
 
 import java.awt.Dimension;
+import java.awt.GraphicsEnvironment;
 import java.awt.Toolkit;
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -54,6 +61,9 @@ public final class CityModelImpl implements CityModel {
     private final InputModel inputModel;
     private final GraphicsModelImpl graphicsModel;
     private final EmploymentOfficeData employmentOfficeData;
+    private PayrollLedger payrollLedger;
+    private ZoneAggregates zoneAggregates;
+    private PersonStateCounters personStateCounters = new PersonStateCounters();
     private int frameWidth;
     private int frameHeight;
 
@@ -61,16 +71,27 @@ public final class CityModelImpl implements CityModel {
      * Constructs a CityModel object with default settings.
      */
     public CityModelImpl() {
+        this(new InputModel(), ConstantAndResourceLoader.SIMULATION_TOTAL_DAYS);
+    }
+
+    /**
+     * Constructs a CityModel object driven by the given input configuration.
+     *
+     * @param inputModel the input configuration used to create the entities
+     * @param totalDays  the number of days to simulate
+     */
+    public CityModelImpl(final InputModel inputModel, final int totalDays) {
         takeFrameSize();
 
         this.mapModel = new MapModelImpl("/unibo/citysimulation/images/mapImage.png");
-        this.clockModel = new ClockModelImpl(ConstantAndResourceLoader.SIMULATION_TOTAL_DAYS);
-        this.inputModel = new InputModel();
+        this.clockModel = new ClockModelImpl(totalDays);
+        this.inputModel = inputModel;
         this.graphicsModel = new GraphicsModelImpl();
         this.zones = ZoneCreation.createZonesFromFile();
         this.transports = new TransportFactoryImpl().createTransportsFromFile(zones);
         this.businesses = new ArrayList<>();
-        this.employmentOfficeData = new EmploymentOfficeData(new LinkedList<>());
+        this.employmentOfficeData = new EmploymentOfficeData(new UnemploymentPool());
+        this.zoneAggregates = new ZoneAggregates(zones, transports, businesses, List.of());
     }
 
     /**
@@ -113,47 +134,43 @@ public final class CityModelImpl implements CityModel {
         // Create zone table
         ZoneTableCreation.createAndAddPairs(zones, transports);
 
-        businesses = BusinessFactoryImpl.createMultipleBusiness(zones, inputModel.getNumberOfPeople());
+        final RandomStreams streams = new RandomStreams(inputModel.getSeed());
+        businesses = new BusinessFactoryImpl(streams).createMultipleBusiness(zones, inputModel.getNumberOfPeople());
 
         // Create people
         this.people = new ArrayList<>();
-        people =  new PersonFactoryImpl().createAllPeople(getInputModel().getNumberOfPeople(), zones, businesses);
+        final PersonFactoryImpl personFactory = new PersonFactoryImpl(streams, inputModel.isCohortMode());
+        people = personFactory.createAllPeople(getInputModel().getNumberOfPeople(), zones, businesses);
 
         for (final List<DynamicPerson> group : people) {
             for (final DynamicPerson person : group) {
                 employmentOfficeData.disoccupied().add(person);
             }
         }
-        clockModel.addObserver(new ClockObserverPerson(people));
+        clockModel.addObserver(inputModel.isParallelUpdate()
+                ? new ClockObserverPerson(people, ForkJoinPool.commonPool())
+                : new ClockObserverPerson(people));
+
+        zoneAggregates = new ZoneAggregates(zones, transports, businesses, people);
+        businesses.forEach(business -> business.setEmploymentListener(zoneAggregates));
 
-        clockModel.addObserver(new ClockObserverBusiness(businesses, employmentOfficeData));
+        personStateCounters = personFactory.getPopulationTable().getStateCounters();
+        payrollLedger = new PayrollLedger(personFactory.getPopulationTable(), businesses, zones);
+        clockModel.addObserver(new ClockObserverBusiness(businesses, new EmploymentOfficeManager(employmentOfficeData,
+                streams.stream(RandomStreams.Purpose.EMPLOYMENT_OFFICE, 0)), payrollLedger));
     }
 
     /**
-     * Calculates the average pay for employees in the specified zone.
-     *
-     * <p>
-     * This method iterates over all businesses in the city model,
-     * checks if each business is in the specified zone, and sums the total pay
-     * for all employees in those businesses.
-     * </p>
+     * Calculates the average pay for employees in the specified zone: the money paid in a day by
+     * the businesses of the zone, divided by the number of those businesses.
+     * The totals of the zone are kept up to date while people are hired and fired, so no business is visited.
      *
      * @param zone the zone for which to calculate the average pay
-     * @return the total pay for all employees in the specified zone
+     * @return the average pay of the businesses in the specified zone
      */
     @Override
     public double avaragePayZone(final Zone zone) {
-        double avarage = 0;
-        int businessCount = 0;
-        for (final Business business : businesses) {
-            if (business.getBusinessData().zone().equals(zone)) {
-                businessCount++;
-                double sum = 0;
-                sum += business.getBusinessData().employees().size() * business.calculatePay();
-                avarage = sum / businessCount;
-            }
-        }
-        return avarage;
+        return zoneAggregates.getAveragePayroll(zone);
     }
 
     /**
@@ -164,13 +181,7 @@ public final class CityModelImpl implements CityModel {
      */
     @Override
     public int getNumberOfDirectLinesFromZone(final Zone zone) {
-        int numberOfDirectLines = 0;
-        for (final TransportLine transportLine : transports) {
-            if (transportLine.getLink().getFirst().equals(zone) || transportLine.getLink().getSecond().equals(zone)) {
-                numberOfDirectLines++;
-            }
-        }
-        return numberOfDirectLines;
+        return zoneAggregates.getDirectLines(zone);
     }
 
     /**
@@ -178,8 +189,11 @@ public final class CityModelImpl implements CityModel {
      */
     @Override
     public void takeFrameSize() {
-        // Get the screen size
-        final Dimension screenSize = Toolkit.getDefaultToolkit().getScreenSize();
+        // Get the screen size, falling back to the minimum one when no display is available
+        final Dimension screenSize = GraphicsEnvironment.isHeadless()
+                ? new Dimension(ConstantAndResourceLoader.SCREEN_MINIMUM_WIDTH_PIXEL,
+                        ConstantAndResourceLoader.SCREEN_MINIMUM_HEIGHT_PIXEL)
+                : Toolkit.getDefaultToolkit().getScreenSize();
         final int maxWidth = (int) (screenSize.getWidth() * ConstantAndResourceLoader.SCREEN_SIZE_PERCENTAGE);
         final int maxHeight = (int) (screenSize.getHeight() * ConstantAndResourceLoader.SCREEN_SIZE_PERCENTAGE);
 
@@ -301,6 +315,16 @@ public final class CityModelImpl implements CityModel {
         return Collections.unmodifiableList(this.businesses);
     }
 
+    /**
+     * Gets the ledger paying the employees of the businesses, with the journal of the payrolls.
+     * 
+     * @return the payroll ledger, empty before the entities are created.
+     */
+    @Override
+    public Optional<PayrollLedger> getPayrollLedger() {
+        return Optional.ofNullable(payrollLedger);
+    }
+
     /**
      * Gets the list of all the people in the city model.
      * 
@@ -313,6 +337,16 @@ public final class CityModelImpl implements CityModel {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Gets the number of people in every state, counted by the population table while the people move.
+     * 
+     * @return the state counters of the people, all zero before the entities are created.
+     */
+    @Override
+    public PersonStateCounters getPersonStateCounters() {
+        return personStateCounters;
+    }
+
     /**
      * Checks if people are present in the city model.
      *
@@ -363,12 +397,7 @@ public final class CityModelImpl implements CityModel {
      */
     @Override
     public Optional<Integer> getPeopleInZone(final String zoneName) {
-        return Optional.ofNullable(people)
-                .map(pList -> pList.stream()
-                        .flatMap(List::stream)
-                        .filter(p -> p.getPersonData().residenceZone().name().equals(zoneName))
-                        .count())
-                .map(Long::intValue);
+        return Optional.ofNullable(people).map(p -> zoneAggregates.getResidents(zoneName));
     }
 
     /**
@@ -379,8 +408,6 @@ public final class CityModelImpl implements CityModel {
      */
     @Override
     public int getBusinessesInZone(final String zoneName) {
-        return (int) businesses.stream()
-                .filter(b -> b.getBusinessData().zone().name().equals(zoneName))
-                .count();
+        return zoneAggregates.getBusinesses(zoneName);
     }
 }
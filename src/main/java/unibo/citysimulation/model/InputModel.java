@@ -1,5 +1,7 @@
 package unibo.citysimulation.model;
 
+import java.util.concurrent.ThreadLocalRandom;
+
 import unibo.citysimulation.utilities.ConstantAndResourceLoader;
 /**
  * This class represents the input model for the city simulation.
@@ -9,6 +11,9 @@ public class InputModel {
     private int numberOfBusiness;
     private int capacity;
     private int richness;
+    private boolean parallelUpdate;
+    private boolean cohortMode;
+    private long seed = ThreadLocalRandom.current().nextLong();
 
     /**
      * Gets the number of people.
@@ -31,6 +36,16 @@ public class InputModel {
         this.numberOfPeople = scaledPeople + ConstantAndResourceLoader.MIN_PEOPLE;
     }
 
+    /**
+     * Sets the number of people directly, without scaling it from a slider value,
+     * so that batch simulations can go beyond the maximum of the slider.
+     *
+     * @param population the number of people
+     */
+    public void setPopulation(final int population) {
+        this.numberOfPeople = population;
+    }
+
     /**
      * Gets the number of businesses.
      *
@@ -93,4 +108,58 @@ public class InputModel {
     public void setRichness(final int richness) {
         this.richness = richness;
     }
+
+    /**
+     * Gets the seed of the random streams; a new input model starts with a random seed.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Sets the seed of the random streams, so that the same input gives the same simulation.
+     *
+     * @param seed the seed
+     */
+    public void setSeed(final long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Tells whether people are updated in parallel.
+     *
+     * @return true if people are updated in parallel
+     */
+    public boolean isParallelUpdate() {
+        return parallelUpdate;
+    }
+
+    /**
+     * Sets whether people are updated in parallel.
+     *
+     * @param parallelUpdate true to update people in parallel
+     */
+    public void setParallelUpdate(final boolean parallelUpdate) {
+        this.parallelUpdate = parallelUpdate;
+    }
+
+    /**
+     * Tells whether interchangeable people are grouped in cohorts.
+     *
+     * @return true if people are grouped in cohorts
+     */
+    public boolean isCohortMode() {
+        return cohortMode;
+    }
+
+    /**
+     * Sets whether interchangeable people are grouped in cohorts.
+     *
+     * @param cohortMode true to group people in cohorts
+     */
+    public void setCohortMode(final boolean cohortMode) {
+        this.cohortMode = cohortMode;
+    }
 }
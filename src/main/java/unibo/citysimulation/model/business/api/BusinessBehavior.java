@@ -22,12 +22,21 @@ public interface BusinessBehavior {
      */
     void fire(Employee employee);
 
+    /**
+     * Checks the delays of the employee based on the current time.
+     * 
+     * @param currentTime the current time, in seconds of the day
+     */
+    void checkEmployeeDelays(int currentTime);
+
     /**
      * Checks the delays of the employee based on the current time.
      * 
      * @param currentTime the current time
      */
-    void checkEmployeeDelays(LocalTime currentTime);
+    default void checkEmployeeDelays(final LocalTime currentTime) {
+        checkEmployeeDelays(currentTime.toSecondOfDay());
+    }
 
     /**
      * Calculates the pay for the employee.
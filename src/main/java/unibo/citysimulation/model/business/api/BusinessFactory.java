@@ -27,11 +27,11 @@ public interface BusinessFactory {
      */
     Optional<Business> createRandomBusiness(List<Zone> zones);
     /**
-     * Creates multiple businesses in the specified zones, with a specified number of people for each business.
+     * Creates the businesses for the given number of people in the specified zones.
      * 
      * @param zones the list of zones where the businesses will be located
-     * @param numberOfPeople the number of people for each business
-     * @return the created Business
+     * @param numberOfPeople the number of people living in the city
+     * @return the created businesses
      */
-    Business createMultipleBusiness(List<Zone> zones, int numberOfPeople);
+    List<Business> createMultipleBusiness(List<Zone> zones, int numberOfPeople);
 }
@@ -1,9 +1,5 @@
 package unibo.citysimulation.model.business.api;
 
-import java.util.Optional;
-
-import unibo.citysimulation.utilities.Pair;
-
 /**
  * This interface represents employye behavior.
  */
@@ -13,12 +9,4 @@ public interface EmployeeBehavior {
      *
      */
     void incrementDelayCount();
-
-    /**
-     * Checks if the employee is late based on the given business position.
-     *
-     * @param businessPosition The business position to check against.
-     * @return True if the employee is late, false otherwise.
-     */
-    boolean isLate(Optional<Pair<Integer, Integer>> businessPosition);
 }
@@ -0,0 +1,18 @@
+package unibo.citysimulation.model.business.api;
+
+import unibo.citysimulation.model.business.impl.Business;
+
+/**
+ * The EmploymentListener interface is notified every time a business hires or fires someone.
+ */
+@FunctionalInterface
+public interface EmploymentListener {
+    /**
+     * Called after the headcount of a business has changed.
+     *
+     * @param business the business that hired or fired someone
+     * @param headcountChange the change of the headcount, counting every member of the cohorts:
+     *                        positive for a hire, negative for a firing
+     */
+    void onEmploymentChange(Business business, int headcountChange);
+}
@@ -1,5 +1,9 @@
 package unibo.citysimulation.model.business.api;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import unibo.citysimulation.model.business.impl.Business;
 
 /**
@@ -24,6 +28,17 @@ public interface EmploymentOfficeBehavior {
      * @return The number of people hired.
      */
     int handleEmployeeHiring(Business business);
+    /**
+     * Handles the hiring of employees for all the businesses opening at the same time.
+     * 
+     * @param businesses The businesses opening now, in the order they are served.
+     * @return The number of people hired by each business.
+     */
+    default Map<Business, Integer> handleEmployeeHiring(final List<Business> businesses) {
+        final Map<Business, Integer> hired = new LinkedHashMap<>();
+        businesses.forEach(business -> hired.put(business, handleEmployeeHiring(business)));
+        return hired;
+    }
     /**
      * Handles the payment of employees for the specified business.
      * Pays each employee in the business the amount of money they are owed.
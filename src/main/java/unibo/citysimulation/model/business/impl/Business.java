@@ -1,13 +1,18 @@
 package unibo.citysimulation.model.business.impl;
 
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import unibo.citysimulation.utilities.Coordinates;
 import unibo.citysimulation.utilities.Pair;
 import unibo.citysimulation.model.business.api.BusinessBehavior;
+import unibo.citysimulation.model.business.api.EmploymentListener;
+import unibo.citysimulation.model.person.api.DynamicPerson;
 import unibo.citysimulation.model.zone.Zone;
 
 /**
@@ -17,11 +22,16 @@ import unibo.citysimulation.model.zone.Zone;
     """)
 public abstract class Business implements BusinessBehavior {
     private final BusinessData businessData;
+    private final int openingSecond;
+    private final int closingSecond;
+    private final long packedPosition;
+    private final Set<DynamicPerson> lateArrivals = ConcurrentHashMap.newKeySet();
+    private EmploymentListener employmentListener = (business, headcountChange) -> { };
     /**
      * Record representing the data of a business in the city simulation.
      *
      * @param id           the id of the business
-     * @param employees    the list of employees working in the business
+     * @param employees    the roster of the employees working in the business
      * @param opLocalTime  the opening time of the business
      * @param clLocalTime  the closing time of the business
      * @param revenue      the revenue generated by the business
@@ -34,7 +44,7 @@ public abstract class Business implements BusinessBehavior {
      */
     public record BusinessData(
     int id,
-    List<Employee> employees,
+    EmployeeRoster employees,
     LocalTime opLocalTime,
     LocalTime clLocalTime,
     double revenue,
@@ -52,6 +62,9 @@ public abstract class Business implements BusinessBehavior {
      */
     public Business(final BusinessData businessData) {
         this.businessData = Objects.requireNonNull(businessData);
+        this.openingSecond = businessData.opLocalTime().toSecondOfDay();
+        this.closingSecond = businessData.clLocalTime().toSecondOfDay();
+        this.packedPosition = Coordinates.pack(businessData.position());
     }
 
     /**
@@ -62,6 +75,51 @@ public abstract class Business implements BusinessBehavior {
     public BusinessData getBusinessData() {
         return businessData;
     }
+    /**
+     * Gets the opening time of this business.
+     *
+     * @return the opening time, in seconds of the day
+     */
+    public int getOpeningSecond() {
+        return openingSecond;
+    }
+
+    /**
+     * Gets the closing time of this business.
+     *
+     * @return the closing time, in seconds of the day
+     */
+    public int getClosingSecond() {
+        return closingSecond;
+    }
+
+    /**
+     * Gets the position of this business without allocating.
+     *
+     * @return the position, packed with {@link Coordinates#pack(int, int)}
+     */
+    public long getPackedPosition() {
+        return packedPosition;
+    }
+
+    /**
+     * Gets the number of people working for this business, counting every member of the cohorts.
+     *
+     * @return the number of people employed
+     */
+    public int getHeadcount() {
+        return businessData.employees().getHeadcount();
+    }
+
+    /**
+     * Sets the listener notified every time this business hires or fires someone, replacing the previous one.
+     *
+     * @param employmentListener the listener to notify
+     */
+    public void setEmploymentListener(final EmploymentListener employmentListener) {
+        this.employmentListener = Objects.requireNonNull(employmentListener);
+    }
+
     /**
      * Hires an employee for the business.
      * 
@@ -72,8 +130,9 @@ public abstract class Business implements BusinessBehavior {
     public final boolean hire(final Employee employee) {
         if (employee.person().getPersonData().age() >= businessData.minAge()
         && employee.person().getPersonData().age() <= businessData.maxAge() 
-        && businessData.employees().size() < businessData.maxEmployees()) {
-        businessData.employees().add(employee);
+        && getHeadcount() + employee.person().getCohortSize() <= businessData.maxEmployees()
+        && businessData.employees().add(employee)) {
+        employmentListener.onEmploymentChange(this, employee.person().getCohortSize());
         return true;
     }
     return false;
@@ -86,24 +145,39 @@ public abstract class Business implements BusinessBehavior {
      */
     @Override
     public final void fire(final Employee employee) {
-        if (employee != null && employee.count() > businessData.maxTardiness()) {
-            businessData.employees.remove(employee);
+        if (employee != null && employee.count() > businessData.maxTardiness()
+            && businessData.employees.remove(employee)) {
+            employmentListener.onEmploymentChange(this, -employee.person().getCohortSize());
+        }
+    }
+
+    /**
+     * Records the arrival of a person at this business. People arriving after their own scheduled start,
+     * for example because they waited for a congested line, are counted as late at the next opening;
+     * a person already counted is not added twice, so recording allocates at most once per late person
+     * between two openings. Can be called by several threads at the same time.
+     * 
+     * @param person      the person that arrived
+     * @param arrivalTime the time of the arrival, in seconds of the day
+     */
+    public void recordArrival(final DynamicPerson person, final int arrivalTime) {
+        if (arrivalTime > person.getBusinessBegin()) {
+            lateArrivals.add(person);
         }
     }
 
     /**
-     * Checks the delays of all employees at the current time.
+     * Increments the delay count of the employees that arrived late since the last opening,
+     * in the order they were hired; only the late arrivals are visited.
      * 
-     * @param currentTime the current time
+     * @param currentTime the current time, in seconds of the day
      */
     @Override
-    public void checkEmployeeDelays(final LocalTime currentTime) {
-        if (currentTime.equals(businessData.opLocalTime())) {
-            for (final Employee employee : businessData.employees()) {
-                if (employee.isLate(Optional.of(businessData.position()))) {
-                    employee.incrementDelayCount();
-                }
-            }
+    public void checkEmployeeDelays(final int currentTime) {
+        if (currentTime == openingSecond && !lateArrivals.isEmpty()) {
+            final List<DynamicPerson> late = new ArrayList<>(lateArrivals);
+            lateArrivals.clear();
+            businessData.employees().employeesOf(late).forEach(Employee::incrementDelayCount);
         }
     }
 
@@ -1,26 +1,49 @@
 package unibo.citysimulation.model.business.impl;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
 
+import unibo.citysimulation.model.business.api.BusinessFactory;
 import unibo.citysimulation.model.business.utilities.BigBusiness;
 import unibo.citysimulation.model.business.utilities.BusinessConfig;
 import unibo.citysimulation.model.business.utilities.BusinessType;
 import unibo.citysimulation.model.business.utilities.MediumBusiness;
 import unibo.citysimulation.model.business.utilities.SmallBusiness;
 import unibo.citysimulation.model.zone.Zone;
+import unibo.citysimulation.utilities.RandomStreams;
 
 /**
  * The BusinessFactoryImpl class is responsible for creating instances of Business objects.
+ * Every factory gives its own ids to the businesses it creates, so several factories can be used
+ * at the same time. Many businesses are created in parallel: every zone gets a number of businesses
+ * proportional to its business percentage and a range of consecutive ids, and the range is split in
+ * partitions, each drawing from its own random stream, so the result does not depend on the threads.
  */
-public final class BusinessFactoryImpl {
+public final class BusinessFactoryImpl implements BusinessFactory {
+    private static final int PARTITION_SIZE = 1024;
+    private final RandomStreams streams;
+    private final AtomicInteger nextId = new AtomicInteger();
 
-    private static final Random RANDOM = new Random();
-    private static int id;
+    /**
+     * Constructs a factory drawing from random streams with a random seed.
+     */
+    public BusinessFactoryImpl() {
+        this(new RandomStreams(ThreadLocalRandom.current().nextLong()));
+    }
 
-    private BusinessFactoryImpl() {
+    /**
+     * Constructs a factory drawing from the given random streams.
+     *
+     * @param streams The random streams of the simulation.
+     */
+    public BusinessFactoryImpl(final RandomStreams streams) {
+        this.streams = streams;
     }
 
     /**
@@ -30,43 +53,122 @@ public final class BusinessFactoryImpl {
      * @param zone The zone where the business is located.
      * @return An Optional containing the created Business object, or an empty Optional if the type is invalid.
      */
-    public static Optional<Business> createBusiness(final BusinessType type, final Zone zone) {
-        switch (type) {
-            case BIG:
-                return Optional.of(new BigBusiness(id++, zone));
-            case MEDIUM:
-                return Optional.of(new MediumBusiness(id++, zone));
-            case SMALL:
-                return Optional.of(new SmallBusiness(id++, zone));
-            default:
-                break;
-        }
-        return Optional.empty();
+    @Override
+    public Optional<Business> createBusiness(final BusinessType type, final Zone zone) {
+        final int id = nextId.getAndIncrement();
+        return Optional.of(create(type, id, zone, streams.stream(RandomStreams.Purpose.BUSINESS, id)));
     }
+
     /**
-     * Creates a random Business object.
+     * Creates a random Business object, in a zone chosen according to the business percentages.
      *
      * @param zones The list of available zones.
      * @return An Optional containing the created Business object.
      */
-    public static Optional<Business> createRandomBusiness(final List<Zone> zones) {
-        final BusinessType type = BusinessType.values()[RANDOM.nextInt(BusinessType.values().length)];
-        final Zone zone = zones.get(RANDOM.nextInt(zones.size()));
-        return createBusiness(type, zone);
+    @Override
+    public Optional<Business> createRandomBusiness(final List<Zone> zones) {
+        final int id = nextId.getAndIncrement();
+        final RandomGenerator random = streams.stream(RandomStreams.Purpose.BUSINESS, id);
+        final BusinessType type = randomType(random);
+        return Optional.of(create(type, id, randomZone(zones, random), random));
     }
 
     /**
-     * Creates multiple Business objects.
+     * Creates multiple Business objects, one every {@link BusinessConfig#BUSINESS_PERCENTAGE} people,
+     * shared among the zones according to their business percentages. The businesses are created in
+     * parallel and sorted by zone and id.
      *
      * @param zones The list of available zones.
      * @param numberOfPeople The number of people.
-     * @return A collection of created Business objects.
+     * @return A list of the created Business objects.
+     */
+    @Override
+    public List<Business> createMultipleBusiness(final List<Zone> zones, final int numberOfPeople) {
+        final int[] counts = businessesPerZone(zones, numberOfPeople / BusinessConfig.BUSINESS_PERCENTAGE);
+        final int total = IntStream.of(counts).sum();
+        final int firstId = nextId.getAndAdd(total);
+        final Business[] businesses = new Business[total];
+        final int[] zoneOfPartition = new int[partitionsOf(counts)];
+        final int[] firstOfPartition = new int[zoneOfPartition.length];
+        final int[] sizeOfPartition = new int[zoneOfPartition.length];
+        int partition = 0;
+        int first = 0;
+        for (int zone = 0; zone < counts.length; zone++) {
+            for (int start = 0; start < counts[zone]; start += PARTITION_SIZE) {
+                zoneOfPartition[partition] = zone;
+                firstOfPartition[partition] = first + start;
+                sizeOfPartition[partition] = Math.min(PARTITION_SIZE, counts[zone] - start);
+                partition++;
+            }
+            first += counts[zone];
+        }
+        IntStream.range(0, zoneOfPartition.length).parallel().forEach(p -> {
+            final RandomGenerator random = streams.stream(RandomStreams.Purpose.BUSINESS,
+                    firstId + firstOfPartition[p]);
+            final Zone zone = zones.get(zoneOfPartition[p]);
+            for (int i = firstOfPartition[p]; i < firstOfPartition[p] + sizeOfPartition[p]; i++) {
+                businesses[i] = create(randomType(random), firstId + i, zone, random);
+            }
+        });
+        return List.of(businesses);
+    }
+
+    /**
+     * Shares the businesses among the zones in proportion to their business percentages, giving the
+     * businesses left by the rounding to the zones with the largest remainders.
      */
-    public static List<Business> createMultipleBusiness(final List<Zone> zones, final int numberOfPeople) {
-        final List<Business> businesses = new ArrayList<>();
-        for (int i = 0; i < numberOfPeople / BusinessConfig.BUSINESS_PERCENTAGE; i++) {
-            createRandomBusiness(zones).ifPresent(businesses::add);
+    private static int[] businessesPerZone(final List<Zone> zones, final int total) {
+        final double weights = zones.stream().mapToDouble(Zone::businessPercents).sum();
+        final int[] counts = new int[zones.size()];
+        if (weights <= 0) {
+            return counts;
         }
-        return businesses;
+        final double[] remainders = new double[zones.size()];
+        int assigned = 0;
+        for (int i = 0; i < zones.size(); i++) {
+            final double share = total * zones.get(i).businessPercents() / weights;
+            counts[i] = (int) share;
+            remainders[i] = share - counts[i];
+            assigned += counts[i];
+        }
+        final Integer[] byRemainder = IntStream.range(0, zones.size()).boxed().toArray(Integer[]::new);
+        Arrays.sort(byRemainder, Comparator.comparingDouble((Integer i) -> remainders[i]).reversed());
+        for (int i = 0; assigned < total; i++, assigned++) {
+            counts[byRemainder[i]]++;
+        }
+        return counts;
+    }
+
+    private static int partitionsOf(final int[] counts) {
+        int partitions = 0;
+        for (final int count : counts) {
+            partitions += (count + PARTITION_SIZE - 1) / PARTITION_SIZE;
+        }
+        return partitions;
+    }
+
+    private static BusinessType randomType(final RandomGenerator random) {
+        return BusinessType.values()[random.nextInt(BusinessType.values().length)];
+    }
+
+    private static Zone randomZone(final List<Zone> zones, final RandomGenerator random) {
+        final double weights = zones.stream().mapToDouble(Zone::businessPercents).sum();
+        double draw = random.nextDouble() * weights;
+        for (final Zone zone : zones) {
+            draw -= zone.businessPercents();
+            if (draw < 0) {
+                return zone;
+            }
+        }
+        return zones.get(random.nextInt(zones.size()));
+    }
+
+    private static Business create(final BusinessType type, final int id, final Zone zone,
+            final RandomGenerator random) {
+        return switch (type) {
+            case BIG -> new BigBusiness(id, zone, random);
+            case MEDIUM -> new MediumBusiness(id, zone, random);
+            case SMALL -> new SmallBusiness(id, zone, random);
+        };
     }
 }
@@ -1,12 +1,9 @@
 package unibo.citysimulation.model.business.impl;
 
-import java.util.Optional;
-
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import unibo.citysimulation.model.business.api.EmployeeBehavior;
 import unibo.citysimulation.model.business.impl.Business.BusinessData;
 import unibo.citysimulation.model.person.api.DynamicPerson;
-import unibo.citysimulation.utilities.Pair;
 
 /**
  * Represents an employee in the city simulation.
@@ -71,21 +68,11 @@ public class Employee implements EmployeeBehavior {
     }
 
     /**
-     * Increments the delay count of the employee.
+     * Increments the delay count of the employee, and lets the roster of the business know.
      */
     @Override
     public void incrementDelayCount() {
         this.count++;
-    }
-
-    /**
-     * Checks if the employee is late based on the business position.
-     * 
-     * @param businessPosition The position of the business.
-     * @return true if the employee is late, false otherwise.
-     */
-    @Override
-    public boolean isLate(final Optional<Pair<Integer, Integer>> businessPosition) {
-        return !person.getPosition().equals(businessPosition);
+        businessData.employees().onDelay(this);
     }
 }
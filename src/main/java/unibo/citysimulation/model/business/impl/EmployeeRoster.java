@@ -0,0 +1,231 @@
+package unibo.citysimulation.model.business.impl;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import unibo.citysimulation.model.person.api.DynamicPerson;
+import unibo.citysimulation.model.person.impl.PopulationTable;
+
+/**
+ * The employees of a business, in the order they were hired, with constant time hiring and firing.
+ * The roster also keeps apart the employees that have been late more times than the business tolerates,
+ * in the order they crossed that limit, so looking for the employees to fire does not visit everybody,
+ * and it keeps the headcount of the business, counting every member of the cohorts.
+ * A person can be employed only once by the same business. The ids of the employed people are also
+ * kept in a compact primitive array, so the wages can be credited in one pass; once the roster is bound
+ * to the population table crediting them, only people stored in that table can be hired.
+ */
+public final class EmployeeRoster extends AbstractCollection<Employee> {
+    private static final int INITIAL_IDS = 8;
+    private final Map<Employee, Slot> employees = new LinkedHashMap<>();
+    private final Map<DynamicPerson, Employee> byPerson = new HashMap<>();
+    private final Set<Employee> tardy = new LinkedHashSet<>();
+    private int headcount;
+    private long nextSequence;
+    private int[] ids = new int[INITIAL_IDS];
+    private Employee[] slots = new Employee[INITIAL_IDS];
+    private PopulationTable table;
+
+    /**
+     * Adds an employee at the end of the roster.
+     *
+     * @param employee the hired employee
+     * @return false if the person of the employee was already in the roster
+     * @throws IllegalArgumentException if the roster is bound to a table not storing the person
+     */
+    @Override
+    public boolean add(final Employee employee) {
+        if (table != null && !table.stores(employee.person())) {
+            throw new IllegalArgumentException("The employee is not stored in the table paying the wages.");
+        }
+        if (byPerson.putIfAbsent(employee.person(), employee) != null) {
+            return false;
+        }
+        if (employees.size() == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+            slots = Arrays.copyOf(slots, slots.length * 2);
+        }
+        ids[employees.size()] = employee.person().getId();
+        slots[employees.size()] = employee;
+        employees.put(employee, new Slot(nextSequence++, employees.size()));
+        headcount += employee.person().getCohortSize();
+        if (isTardy(employee)) {
+            tardy.add(employee);
+        }
+        return true;
+    }
+
+    /**
+     * Removes an employee from the roster, in constant time.
+     *
+     * @param employee the employee to remove
+     * @return true if the employee was in the roster
+     */
+    @Override
+    public boolean remove(final Object employee) {
+        final Slot slot = employees.remove(employee);
+        if (slot == null) {
+            return false;
+        }
+        forget((Employee) employee, slot);
+        return true;
+    }
+
+    /**
+     * @param employee the employee to look for
+     * @return true if the employee is in the roster
+     */
+    @Override
+    public boolean contains(final Object employee) {
+        return employees.containsKey(employee);
+    }
+
+    /**
+     * @return the number of employees
+     */
+    @Override
+    public int size() {
+        return employees.size();
+    }
+
+    /**
+     * @return the employees, in the order they were hired
+     */
+    @Override
+    public Iterator<Employee> iterator() {
+        final Iterator<Employee> iterator = employees.keySet().iterator();
+        return new Iterator<>() {
+            private Employee last;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Employee next() {
+                last = iterator.next();
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                final Slot slot = employees.get(last);
+                iterator.remove();
+                forget(last, slot);
+            }
+        };
+    }
+
+    /**
+     * @return the number of people employed, counting every member of the cohorts
+     */
+    public int getHeadcount() {
+        return headcount;
+    }
+
+    /**
+     * @return the employees late more times than the business tolerates, in the order they crossed the limit
+     */
+    public List<Employee> getTardyEmployees() {
+        return new ArrayList<>(tardy);
+    }
+
+    /**
+     * Returns the ids of the employed people, in no particular order; only the first {@link #size()}
+     * elements are meaningful. The array is shared and changes when people are hired or fired.
+     *
+     * @return the ids of the employed people
+     */
+    @SuppressFBWarnings(value = "EI", justification = """
+        The ids are shared with the payroll on purpose, to credit the wages without copying them.
+        """)
+    public int[] getIds() {
+        return ids;
+    }
+
+    /**
+     * Finds the employees of the given people, in the order they were hired.
+     * People that are not employed here are skipped.
+     *
+     * @param people the people to look for
+     * @return the employees of the people, each one once
+     */
+    public List<Employee> employeesOf(final Collection<DynamicPerson> people) {
+        final List<Employee> found = new ArrayList<>();
+        for (final DynamicPerson person : people) {
+            final Employee employee = byPerson.get(person);
+            if (employee != null) {
+                found.add(employee);
+            }
+        }
+        found.sort(Comparator.comparingLong(employee -> employees.get(employee).sequence));
+        return found.stream().distinct().toList();
+    }
+
+    /**
+     * Binds the roster to the table whose rows are the ids of the employees, checking the people already hired.
+     *
+     * @param population the table storing all the employees
+     * @throws IllegalArgumentException if an employee is not stored in the table
+     */
+    void bindTo(final PopulationTable population) {
+        if (!employees.keySet().stream().allMatch(employee -> population.stores(employee.person()))) {
+            throw new IllegalArgumentException("An employee is not stored in the table paying the wages.");
+        }
+        this.table = population;
+    }
+
+    /**
+     * Called by an employee whose delay count has just been incremented.
+     *
+     * @param employee the late employee
+     */
+    void onDelay(final Employee employee) {
+        if (isTardy(employee) && employees.containsKey(employee)) {
+            tardy.add(employee);
+        }
+    }
+
+    private void forget(final Employee employee, final Slot slot) {
+        final int last = employees.size();
+        if (slot.index != last) {
+            // move the last slot into the freed one
+            ids[slot.index] = ids[last];
+            slots[slot.index] = slots[last];
+            employees.get(slots[last]).index = slot.index;
+        }
+        slots[last] = null;
+        byPerson.remove(employee.person());
+        headcount -= employee.person().getCohortSize();
+        tardy.remove(employee);
+    }
+
+    private static boolean isTardy(final Employee employee) {
+        return employee.count() > employee.businessData().maxTardiness();
+    }
+
+    /**
+     * The position of an employee in the hiring order and in the array of ids.
+     */
+    private static final class Slot {
+        private final long sequence;
+        private int index;
+
+        Slot(final long sequence, final int index) {
+            this.sequence = sequence;
+            this.index = index;
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package unibo.citysimulation.model.business.impl;
 
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 import java.util.Optional;
 
@@ -15,7 +18,8 @@ import unibo.citysimulation.model.person.api.DynamicPerson;
 public class EmploymentOfficeManager implements EmploymentOfficeBehavior {
 
     private final EmploymentOfficeData employmentOffice;
-    private final Random random;
+    private final RandomGenerator random;
+    private final LaborMarketMatcher matcher;
     private static final double FIRING_RATE = 0.1;
     private static final int ZERO = 0;
 
@@ -25,8 +29,20 @@ public class EmploymentOfficeManager implements EmploymentOfficeBehavior {
      * @param employymentOffice The employment office to interact with.
      */
     public EmploymentOfficeManager(final EmploymentOfficeData employymentOffice) {
+        this(employymentOffice, new SplittableRandom());
+    }
+
+    /**
+     * Constructs an EmploymentOfficeManager with the given employment office, drawing its decisions
+     * from the given generator.
+     * 
+     * @param employymentOffice The employment office to interact with.
+     * @param random The generator used for hiring and firing decisions, used by a single thread.
+     */
+    public EmploymentOfficeManager(final EmploymentOfficeData employymentOffice, final RandomGenerator random) {
         this.employmentOffice = employymentOffice;
-        this.random = new Random();
+        this.random = random;
+        this.matcher = new LaborMarketMatcher(employymentOffice.disoccupied(), random);
     }
 
     /**
@@ -73,45 +89,49 @@ public class EmploymentOfficeManager implements EmploymentOfficeBehavior {
     }
 
     /**
-     * Checks if a business can hire more employees.
+     * Handles the hiring of employees for all the businesses opening at the same time, matching their
+     * open spots with the disoccupied people in a single pass instead of one search per business.
+     * Every business draws how many people it wants as {@link #handleEmployeeHiring(Business)} does,
+     * then gets the first eligible people not taken by the businesses before it in the list.
      * 
-     * @param business The business to check.
-     * @return true if the business can hire more employees, false otherwise.
+     * @param businesses The businesses opening now, in the order they are served.
+     * @return The number of people hired by each business, as reported by {@link #handleEmployeeHiring(Business)}.
      */
-    private boolean canHire(final Business business) {
-        return business.getBusinessData().employees().size() < business.getBusinessData().maxEmployees();
+    @Override
+    public final Map<Business, Integer> handleEmployeeHiring(final List<Business> businesses) {
+        matcher.match(businesses);
+        final Map<Business, Integer> hired = new LinkedHashMap<>();
+        businesses.forEach(business -> hired.put(business, ZERO));
+        return hired;
     }
 
     /**
-     * Checks if an employee should be fired based on their delay count.
+     * Checks if a business can hire more employees.
      * 
-     * @param employee The employee to check.
-     * @return true if the employee should be fired, false otherwise.
+     * @param business The business to check.
+     * @return true if the business can hire more employees, false otherwise.
      */
-    private boolean shouldFire(final Employee employee) {
-        return employee != null && employee.count() > employee.businessData().maxTardiness();
+    private boolean canHire(final Business business) {
+        return business.getHeadcount() < business.getBusinessData().maxEmployees();
     }
 
     /**
      * Retrieves a random number of disoccupied people to be hired by the business.
-     * Filters out people who live in the same zone as the business.
+     * Only the people living in other zones and within the age limits of the business are considered,
+     * in the order they became disoccupied, as long as their cohorts all together fit in the free spots.
      * 
      * @param business The business that will hire the people.
      * @return The list of people to be hired.
      */
     private Optional<List<DynamicPerson>> getPeopleToHire(final Business business) {
-        final int availableSpots = business.getBusinessData().maxEmployees() - business.getBusinessData().employees().size();
+        final int availableSpots = business.getBusinessData().maxEmployees() - business.getHeadcount();
         if (availableSpots > 0) {
-            final List<DynamicPerson> disoccupiedPeople = employmentOffice.disoccupied();
-            final List<DynamicPerson> eligiblePeople = disoccupiedPeople.stream()
-                .filter(person -> !person.getPersonData().residenceZone().equals(business.getBusinessData().zone()))
-                .collect(Collectors.toList());
-            final int maxPeopleToHire = Math.min(availableSpots, eligiblePeople.size());
-            if (maxPeopleToHire > 0) {
-                final int peopleToHireCount = random.nextInt(maxPeopleToHire) + 1; 
-                return Optional.of(eligiblePeople.stream()
-                    .limit(peopleToHireCount)
-                    .collect(Collectors.toList()));
+            final List<DynamicPerson> eligiblePeople = employmentOffice.disoccupied().candidates(
+                business.getBusinessData().zone(), business.getBusinessData().minAge(),
+                business.getBusinessData().maxAge(), availableSpots);
+            if (!eligiblePeople.isEmpty()) {
+                final int peopleToHireCount = random.nextInt(eligiblePeople.size()) + 1;
+                return Optional.of(eligiblePeople.subList(0, peopleToHireCount));
             }
         }
         return Optional.empty();
@@ -119,34 +139,32 @@ public class EmploymentOfficeManager implements EmploymentOfficeBehavior {
 
     /**
      * Hires the specified people for the given business and removes them from the employment office.
+     * The people the business refuses stay in the employment office.
      * 
      * @param business The business that will hire the people.
      * @param peopleToHire The list of people to be hired.
      * @return The number of people hired.
      */
     private int hirePeople(final Business business, final Optional<List<DynamicPerson>> peopleToHire) {
-        if (peopleToHire.isPresent()) {
-            final List<DynamicPerson> people = peopleToHire.get();
-            people.forEach(person -> {
-                final Employee employee = new Employee(person, business.getBusinessData());
-                business.hire(employee);
+        int hired = 0;
+        for (final DynamicPerson person : peopleToHire.orElse(List.of())) {
+            if (business.hire(new Employee(person, business.getBusinessData()))) {
                 employmentOffice.disoccupied().remove(person);
-            });
-            return people.size();
+                hired++;
+            }
         }
-        return 0;
+        return hired;
     }
 
     /**
-     * Retrieves a list of employees that should be fired from the specified business.
+     * Retrieves a list of employees that should be fired from the specified business:
+     * the ones late more times than the business tolerates, as kept by its roster.
      * 
      * @param business The business to check for employees to fire.
      * @return The list of employees to be fired.
      */
     private List<Employee> getEmployeesToFire(final Business business) {
-        return business.getBusinessData().employees().stream()
-            .filter(this::shouldFire)
-            .collect(Collectors.toList());
+        return business.getBusinessData().employees().getTardyEmployees();
     }
 
     /**
@@ -163,7 +181,8 @@ public class EmploymentOfficeManager implements EmploymentOfficeBehavior {
     }
     /**
      * Handles the payment for all employees in the given business.
-     * Calculates the pay for each employee and adds it to their personal account.
+     * Calculates the pay for each employee and adds it to their personal account; a cohort
+     * is paid once, since its money is the money of each of its members.
      *
      * @param business the business for which the payment is being handled
      */
@@ -0,0 +1,142 @@
+package unibo.citysimulation.model.business.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.random.RandomGenerator;
+
+import unibo.citysimulation.model.business.utilities.UnemploymentPool;
+import unibo.citysimulation.model.person.api.DynamicPerson;
+import unibo.citysimulation.model.zone.Zone;
+
+/**
+ * Matches the open spots of all the businesses opening at the same time with the disoccupied people,
+ * in a single pass over the candidates.
+ *
+ * <p>
+ * First every business draws how many people it wants, between one and the number of candidates it
+ * could hire, counted from the sizes of the pools without visiting them. Then the candidates of all the
+ * ages accepted by some business are visited once, in the order they became disoccupied, and each one
+ * goes to the first business, in the order of the bucket, that still wants people and accepts them:
+ * a business living in another zone, within its age limits and with room for the whole cohort.
+ * The open businesses are grouped by zone, so a candidate only looks at the first open business of
+ * each other zone in the usual case, where all the businesses of a bucket have the same age limits.
+ * </p>
+ */
+final class LaborMarketMatcher {
+    private final UnemploymentPool pool;
+    private final RandomGenerator random;
+
+    /**
+     * Constructs a matcher hiring from the given pool.
+     *
+     * @param pool   the disoccupied people
+     * @param random the generator drawing how many people each business wants, used by a single thread
+     */
+    LaborMarketMatcher(final UnemploymentPool pool, final RandomGenerator random) {
+        this.pool = pool;
+        this.random = random;
+    }
+
+    /**
+     * Hires the disoccupied people for the given businesses and removes the hired ones from the pool;
+     * people a business refuses stay in the pool.
+     *
+     * @param businesses the businesses opening now, in the order they are served
+     */
+    void match(final List<Business> businesses) {
+        final List<Opening> all = new ArrayList<>();
+        final Map<Zone, Deque<Opening>> openings = new LinkedHashMap<>();
+        int minAge = Integer.MAX_VALUE;
+        int maxAge = Integer.MIN_VALUE;
+        int pending = 0;
+        for (int i = 0; i < businesses.size(); i++) {
+            final Business business = businesses.get(i);
+            final Business.BusinessData data = business.getBusinessData();
+            final int spots = data.maxEmployees() - business.getHeadcount();
+            if (spots > 0) {
+                final int candidates = pool.countCandidates(data.zone(), data.minAge(), data.maxAge(), spots);
+                if (candidates > 0) {
+                    final Opening opening = new Opening(i, business, spots, random.nextInt(candidates) + 1);
+                    all.add(opening);
+                    openings.computeIfAbsent(data.zone(), zone -> new ArrayDeque<>()).add(opening);
+                    minAge = Math.min(minAge, data.minAge());
+                    maxAge = Math.max(maxAge, data.maxAge());
+                    pending++;
+                }
+            }
+        }
+        // when all the businesses are in the same zone its residents are never hired, so they are not visited
+        final Optional<Zone> excludedZone = openings.size() == 1 ? Optional.of(openings.keySet().iterator().next())
+                : Optional.empty();
+        final Iterator<DynamicPerson> candidates = pending > 0 ? pool.candidates(excludedZone, minAge, maxAge)
+                : Collections.emptyIterator();
+        while (pending > 0 && candidates.hasNext()) {
+            final DynamicPerson person = candidates.next();
+            final Opening opening = firstAccepting(openings, person);
+            if (opening != null) {
+                opening.hired.add(person);
+                opening.spots -= person.getCohortSize();
+                if (opening.hired.size() == opening.wanted || opening.spots <= 0) {
+                    openings.get(opening.business.getBusinessData().zone()).remove(opening);
+                    pending--;
+                }
+            }
+        }
+        for (final Opening opening : all) {
+            for (final DynamicPerson person : opening.hired) {
+                if (opening.business.hire(new Employee(person, opening.business.getBusinessData()))) {
+                    pool.remove(person);
+                }
+            }
+        }
+    }
+
+    private static Opening firstAccepting(final Map<Zone, Deque<Opening>> openings, final DynamicPerson person) {
+        Opening first = null;
+        for (final Map.Entry<Zone, Deque<Opening>> zone : openings.entrySet()) {
+            if (!zone.getKey().equals(person.getPersonData().residenceZone())) {
+                for (final Opening opening : zone.getValue()) {
+                    if (first != null && opening.order > first.order) {
+                        break;
+                    }
+                    if (opening.accepts(person)) {
+                        first = opening;
+                        break;
+                    }
+                }
+            }
+        }
+        return first;
+    }
+
+    /**
+     * A business still looking for people in the current bucket.
+     */
+    private static final class Opening {
+        private final int order;
+        private final Business business;
+        private final int wanted;
+        private final List<DynamicPerson> hired = new ArrayList<>();
+        private int spots;
+
+        Opening(final int order, final Business business, final int spots, final int wanted) {
+            this.order = order;
+            this.business = business;
+            this.spots = spots;
+            this.wanted = wanted;
+        }
+
+        boolean accepts(final DynamicPerson person) {
+            final int age = person.getPersonData().age();
+            return age >= business.getBusinessData().minAge() && age <= business.getBusinessData().maxAge()
+                    && person.getCohortSize() <= spots;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package unibo.citysimulation.model.business.impl;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import unibo.citysimulation.model.person.impl.PopulationTable;
+import unibo.citysimulation.model.zone.Zone;
+
+/**
+ * Pays the employees of the businesses closing at the same time in one bulk pass over the money
+ * column of the population table, and keeps a journal of the payrolls: the payroll of every business
+ * and of every zone on every day of the simulation.
+ * All the employees must be stored in the table of the ledger: the rosters of the businesses are bound
+ * to it, so hiring anybody else fails.
+ */
+@SuppressFBWarnings(value = "EI2", justification = """
+    The ledger credits the table of the whole population on purpose.
+    """)
+public final class PayrollLedger {
+    private final PopulationTable table;
+    private final Map<Business, Integer> businessIndexes = new IdentityHashMap<>();
+    private final Map<Zone, Integer> zoneIndexes = new IdentityHashMap<>();
+    private final List<double[]> businessPayrolls = new ArrayList<>();
+    private final List<double[]> zonePayrolls = new ArrayList<>();
+
+    /**
+     * Constructs a ledger paying the people of the given table.
+     *
+     * @param table      the table storing all the employees
+     * @param businesses the businesses paying their employees
+     * @param zones      the zones of the businesses
+     * @throws IllegalArgumentException if an employee of the businesses is not stored in the table
+     */
+    public PayrollLedger(final PopulationTable table, final List<Business> businesses, final List<Zone> zones) {
+        this.table = table;
+        for (int i = 0; i < businesses.size(); i++) {
+            businesses.get(i).getBusinessData().employees().bindTo(table);
+            businessIndexes.put(businesses.get(i), i);
+        }
+        for (int i = 0; i < zones.size(); i++) {
+            zoneIndexes.put(zones.get(i), i);
+        }
+    }
+
+    /**
+     * Pays the employees of the businesses closing now. Each employee gets the pay of its business,
+     * credited once to a cohort, since its money is the money of each of its members.
+     *
+     * @param closing the businesses closing now
+     * @param day     the current day of the simulation, starting from 1
+     */
+    public void pay(final List<Business> closing, final int day) {
+        growJournal(day);
+        final double[] businessDay = businessPayrolls.get(day - 1);
+        final double[] zoneDay = zonePayrolls.get(day - 1);
+        for (final Business business : closing) {
+            final EmployeeRoster roster = business.getBusinessData().employees();
+            final double pay = business.calculatePay();
+            table.credit(roster.getIds(), roster.size(), pay);
+            final double payroll = pay * roster.getHeadcount();
+            businessDay[businessIndexes.get(business)] = payroll;
+            zoneDay[zoneIndexes.get(business.getBusinessData().zone())] += payroll;
+        }
+    }
+
+    /**
+     * @param business a business of the ledger
+     * @return the money paid by the business on every day, starting from day 1
+     */
+    public double[] getBusinessPayrolls(final Business business) {
+        return column(businessPayrolls, businessIndexes.get(business));
+    }
+
+    /**
+     * @param zone a zone of the ledger
+     * @return the money paid by the businesses of the zone on every day, starting from day 1
+     */
+    public double[] getZonePayrolls(final Zone zone) {
+        return column(zonePayrolls, zoneIndexes.get(zone));
+    }
+
+    /**
+     * @return the number of days in the journal
+     */
+    public int getDays() {
+        return zonePayrolls.size();
+    }
+
+    private void growJournal(final int day) {
+        while (zonePayrolls.size() < day) {
+            businessPayrolls.add(new double[businessIndexes.size()]);
+            zonePayrolls.add(new double[zoneIndexes.size()]);
+        }
+    }
+
+    private static double[] column(final List<double[]> journal, final int index) {
+        return journal.stream().mapToDouble(payrolls -> payrolls[index]).toArray();
+    }
+}
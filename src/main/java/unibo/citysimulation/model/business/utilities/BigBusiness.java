@@ -1,8 +1,10 @@
 package unibo.citysimulation.model.business.utilities;
 
-import java.util.LinkedList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 import unibo.citysimulation.model.business.impl.Business;
+import unibo.citysimulation.model.business.impl.EmployeeRoster;
 import unibo.citysimulation.model.zone.Zone;
 
 /**
@@ -17,14 +19,24 @@ public class BigBusiness extends Business {
      * @param zone the zone where the big business is located
      */
     public BigBusiness(final int id, final Zone zone) {
+        this(id, zone, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Creates a big business in the city simulation, placed at a position drawn from the given generator.
+     * @param id the id of the big business
+     * @param zone the zone where the big business is located
+     * @param random the generator to draw the position from
+     */
+    public BigBusiness(final int id, final Zone zone, final RandomGenerator random) {
         super(new BusinessData(
             id,
-            new LinkedList<>(),
+            new EmployeeRoster(),
             BusinessConfig.BIG_OPENING_TIME,
             BusinessConfig.BIG_CLOSING_TIME,
             BusinessConfig.BIG_REVENUE,
             BusinessConfig.MAX_EMPLOYEES_BIG_BUSINESS,
-            zone.getRandomPosition(),
+            zone.getRandomPosition(random),
             BusinessConfig.BIG_MIN_AGE,
             BusinessConfig.BIG_MAX_AGE,
             BusinessConfig.BIG_MAX_TARDINESS,
@@ -1,8 +1,10 @@
 package unibo.citysimulation.model.business.utilities;
 
-import java.util.LinkedList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 import unibo.citysimulation.model.business.impl.Business;
+import unibo.citysimulation.model.business.impl.EmployeeRoster;
 import unibo.citysimulation.model.zone.Zone;
 
 /**
@@ -17,14 +19,24 @@ public class MediumBusiness extends Business {
      * @param zone the zone where the medium business is located
      */
     public MediumBusiness(final int id, final Zone zone) {
+        this(id, zone, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Creates a medium business in the city simulation, placed at a position drawn from the given generator.
+     * @param id the id of the medium business
+     * @param zone the zone where the medium business is located
+     * @param random the generator to draw the position from
+     */
+    public MediumBusiness(final int id, final Zone zone, final RandomGenerator random) {
         super(new BusinessData(
             id,
-            new LinkedList<>(),
+            new EmployeeRoster(),
             BusinessConfig.MEDIUM_OPENING_TIME,
             BusinessConfig.MEDIUM_CLOSING_TIME,
             BusinessConfig.MEDIUM_REVENUE,
             BusinessConfig.MAX_EMPLOYEES_MEDIUM_BUSINESS,
-            zone.getRandomPosition(),
+            zone.getRandomPosition(random),
             BusinessConfig.MEDIUM_MIN_AGE,
             BusinessConfig.MEDIUM_MAX_AGE,
             BusinessConfig.MEDIUM_MAX_TARDINESS,
@@ -1,8 +1,10 @@
 package unibo.citysimulation.model.business.utilities;
 
-import java.util.LinkedList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 import unibo.citysimulation.model.business.impl.Business;
+import unibo.citysimulation.model.business.impl.EmployeeRoster;
 import unibo.citysimulation.model.zone.Zone;
 
 /**
@@ -17,14 +19,24 @@ public class SmallBusiness extends Business {
      * @param zone the zone where the small business is located
      */
     public SmallBusiness(final int id, final Zone zone) {
+        this(id, zone, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Creates a small business in the city simulation, placed at a position drawn from the given generator.
+     * @param id the id of the small business
+     * @param zone the zone where the small business is located
+     * @param random the generator to draw the position from
+     */
+    public SmallBusiness(final int id, final Zone zone, final RandomGenerator random) {
         super(new BusinessData(
             id,
-            new LinkedList<>(),
+            new EmployeeRoster(),
             BusinessConfig.SMALL_OPENING_TIME,
             BusinessConfig.SMALL_CLOSING_TIME,
             BusinessConfig.SMALL_REVENUE,
             BusinessConfig.MAX_EMPLOYEES_SMALL_BUSINESS, 
-            zone.getRandomPosition(), 
+            zone.getRandomPosition(random), 
             BusinessConfig.SMALL_MIN_AGE, 
             BusinessConfig.SMALL_MAX_AGE,
             BusinessConfig.SMALL_MAX_TARDINESS,
@@ -0,0 +1,244 @@
+package unibo.citysimulation.model.business.utilities;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+import unibo.citysimulation.model.person.api.DynamicPerson;
+import unibo.citysimulation.model.zone.Zone;
+
+/**
+ * The unemployed people of the city, indexed by residence zone and age.
+ * Every pool keeps its people in the order they became unemployed, so adding and removing a person
+ * takes constant time, and looking for candidates only visits the pools a business can hire from.
+ * Iterating the whole collection returns the people in the order they were added.
+ */
+public final class UnemploymentPool extends AbstractCollection<DynamicPerson> {
+    private final Map<DynamicPerson, Long> order = new LinkedHashMap<>();
+    private final Map<Zone, NavigableMap<Integer, Map<DynamicPerson, Long>>> pools = new HashMap<>();
+    private long nextSequence;
+
+    /**
+     * Constructs an empty pool.
+     */
+    public UnemploymentPool() {
+        // Nobody is unemployed yet.
+    }
+
+    /**
+     * Constructs a pool with the given unemployed people, in the order of the collection.
+     *
+     * @param people the unemployed people
+     */
+    public UnemploymentPool(final Collection<? extends DynamicPerson> people) {
+        addAll(people);
+    }
+
+    /**
+     * Adds an unemployed person at the end of the pool of its residence zone and age.
+     *
+     * @param person the unemployed person
+     * @return false if the person was already unemployed
+     */
+    @Override
+    public boolean add(final DynamicPerson person) {
+        if (order.containsKey(person)) {
+            return false;
+        }
+        final long sequence = nextSequence++;
+        order.put(person, sequence);
+        poolOf(person).put(person, sequence);
+        return true;
+    }
+
+    /**
+     * Removes a person from the pool, in constant time.
+     *
+     * @param person the person to remove
+     * @return true if the person was unemployed
+     */
+    @Override
+    public boolean remove(final Object person) {
+        if (order.remove(person) == null) {
+            return false;
+        }
+        removeFromPool((DynamicPerson) person);
+        return true;
+    }
+
+    /**
+     * @param person the person to look for
+     * @return true if the person is unemployed
+     */
+    @Override
+    public boolean contains(final Object person) {
+        return order.containsKey(person);
+    }
+
+    /**
+     * @return the number of unemployed people
+     */
+    @Override
+    public int size() {
+        return order.size();
+    }
+
+    /**
+     * @return the unemployed people, in the order they were added
+     */
+    @Override
+    public Iterator<DynamicPerson> iterator() {
+        final Iterator<DynamicPerson> people = order.keySet().iterator();
+        return new Iterator<>() {
+            private DynamicPerson last;
+
+            @Override
+            public boolean hasNext() {
+                return people.hasNext();
+            }
+
+            @Override
+            public DynamicPerson next() {
+                last = people.next();
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                people.remove();
+                removeFromPool(last);
+            }
+        };
+    }
+
+    /**
+     * Finds the people a business can hire, in the order they were added, without removing them.
+     * Only the pools of the other zones and of the allowed ages are visited. A candidate is taken only if
+     * its cohort fits in the spots left by the candidates before it, and the search stops when no spot is left.
+     *
+     * @param businessZone   the zone of the business, whose residents are not hired
+     * @param minAge         the minimum age of the candidates
+     * @param maxAge         the maximum age of the candidates
+     * @param spots          the number of free spots, counting every member of the cohorts
+     * @return the first candidates, whose cohorts add up to at most {@code spots} people
+     */
+    public List<DynamicPerson> candidates(final Zone businessZone, final int minAge, final int maxAge,
+            final int spots) {
+        final Iterator<DynamicPerson> people = merge(businessZone, minAge, maxAge);
+        final List<DynamicPerson> candidates = new ArrayList<>();
+        int left = spots;
+        while (left > 0 && people.hasNext()) {
+            final DynamicPerson person = people.next();
+            if (person.getCohortSize() <= left) {
+                candidates.add(person);
+                left -= person.getCohortSize();
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the people within the given ages, in the order they were added. Only the pools of the
+     * allowed ages are visited, lazily; the pool must not change during the iteration.
+     *
+     * @param excludedZone the zone whose residents are skipped, or empty to visit all the zones
+     * @param minAge       the minimum age of the candidates
+     * @param maxAge       the maximum age of the candidates
+     * @return the candidates, in the order they were added
+     */
+    public Iterator<DynamicPerson> candidates(final Optional<Zone> excludedZone, final int minAge, final int maxAge) {
+        return merge(excludedZone.orElse(null), minAge, maxAge);
+    }
+
+    /**
+     * Counts the people a business could hire, without looking at them: only the sizes of the pools
+     * of the other zones and of the allowed ages are added.
+     *
+     * @param businessZone the zone of the business, whose residents are not hired
+     * @param minAge       the minimum age of the candidates
+     * @param maxAge       the maximum age of the candidates
+     * @param limit        the count at which to stop
+     * @return the number of candidates, at most {@code limit}
+     */
+    public int countCandidates(final Zone businessZone, final int minAge, final int maxAge, final int limit) {
+        int count = 0;
+        for (final Map.Entry<Zone, NavigableMap<Integer, Map<DynamicPerson, Long>>> zone : pools.entrySet()) {
+            if (!zone.getKey().equals(businessZone)) {
+                for (final Map<DynamicPerson, Long> pool : zone.getValue().subMap(minAge, true, maxAge, true).values()) {
+                    count += pool.size();
+                    if (count >= limit) {
+                        return limit;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    private Iterator<DynamicPerson> merge(final Zone excludedZone, final int minAge, final int maxAge) {
+        final PriorityQueue<Head> heads = new PriorityQueue<>();
+        for (final Map.Entry<Zone, NavigableMap<Integer, Map<DynamicPerson, Long>>> zone : pools.entrySet()) {
+            if (!zone.getKey().equals(excludedZone)) {
+                for (final Map<DynamicPerson, Long> pool : zone.getValue().subMap(minAge, true, maxAge, true).values()) {
+                    Head.first(pool.entrySet().iterator()).ifPresent(heads::add);
+                }
+            }
+        }
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !heads.isEmpty();
+            }
+
+            @Override
+            public DynamicPerson next() {
+                final Head head = heads.remove();
+                Head.first(head.rest()).ifPresent(heads::add);
+                return head.person();
+            }
+        };
+    }
+
+    private Map<DynamicPerson, Long> poolOf(final DynamicPerson person) {
+        return pools.computeIfAbsent(person.getPersonData().residenceZone(), zone -> new TreeMap<>())
+                .computeIfAbsent(person.getPersonData().age(), age -> new LinkedHashMap<>());
+    }
+
+    private void removeFromPool(final DynamicPerson person) {
+        final NavigableMap<Integer, Map<DynamicPerson, Long>> ages = pools.get(person.getPersonData().residenceZone());
+        final Map<DynamicPerson, Long> pool = ages.get(person.getPersonData().age());
+        pool.remove(person);
+        if (pool.isEmpty()) {
+            ages.remove(person.getPersonData().age());
+        }
+    }
+
+    /**
+     * The next person of a pool while merging the pools in the order people were added.
+     */
+    private record Head(DynamicPerson person, long sequence, Iterator<Map.Entry<DynamicPerson, Long>> rest)
+            implements Comparable<Head> {
+
+        static Optional<Head> first(final Iterator<Map.Entry<DynamicPerson, Long>> pool) {
+            if (!pool.hasNext()) {
+                return Optional.empty();
+            }
+            final Map.Entry<DynamicPerson, Long> entry = pool.next();
+            return Optional.of(new Head(entry.getKey(), entry.getValue(), pool));
+        }
+
+        @Override
+        public int compareTo(final Head other) {
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+}
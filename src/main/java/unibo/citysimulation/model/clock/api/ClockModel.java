@@ -1,7 +1,6 @@
 package unibo.citysimulation.model.clock.api;
 
 import java.time.LocalTime;
-import java.util.Timer;
 
 /**
  * Represents the clock model for the simulation.
@@ -11,14 +10,22 @@ import java.util.Timer;
  */
 public interface ClockModel {
     /**
-     * Adds an observer to the clock model.
+     * Adds a model observer to the clock model, notified synchronously at every update.
      * 
      * @param observer The observer to add
      */
     void addObserver(ClockObserver observer);
 
     /**
-     * Removes an observer from the clock model.
+     * Adds a view observer to the clock model, notified asynchronously on the Event Dispatch Thread.
+     * If the view falls behind, intermediate updates are skipped and only the latest one is delivered.
+     * 
+     * @param observer The observer to add
+     */
+    void addViewObserver(ClockObserver observer);
+
+    /**
+     * Removes an observer, either model or view, from the clock model.
      * 
      * @param observer The observer to remove
      */
@@ -29,6 +36,50 @@ public interface ClockModel {
      */
     void notifyObservers();
 
+    /**
+     * @return the number of view updates skipped because a newer one replaced them.
+     */
+    long getCoalescedViewUpdates();
+
+    /**
+     * Advances the simulation by a single step and notifies the observers,
+     * without any pacing: the caller decides when the next step happens.
+     * 
+     * @return true if the clock advanced, false if the simulation is already over
+     */
+    boolean tick();
+
+    /**
+     * Jumps straight to the next time at which a model observer has something scheduled,
+     * notifying only the model observers that are due at that time. View observers are
+     * notified of the new time as usual.
+     * 
+     * @return true if the clock advanced, false if the simulation is already over
+     */
+    boolean skipToNextEvent();
+
+    /**
+     * Advances the simulation up to the given day and time, stopping at every scheduled event in between.
+     * 
+     * @param day  The target day
+     * @param time The target time, a multiple of the simulation step
+     * @return true if the target was reached, false if the simulation ended before it
+     * @throws IllegalArgumentException if the target is in the past or is not a multiple of the simulation step
+     */
+    boolean advanceTo(int day, LocalTime time);
+
+    /**
+     * Sets whether the paced simulation skips the idle periods instead of stepping through them.
+     * 
+     * @param skipIdle true to jump from an event to the next one
+     */
+    void setSkipIdle(boolean skipIdle);
+
+    /**
+     * @return true if the paced simulation skips the idle periods.
+     */
+    boolean isSkipIdle();
+
     /**
      * Starts the simulation with the specified update rate.
      * 
@@ -47,7 +98,7 @@ public interface ClockModel {
     void stopSimulation();
 
     /**
-     * Sets the current update rate of the simulation.
+     * Sets the current update rate of the simulation, applying it immediately if the simulation is running.
      * 
      * @param updateRate The new update rate
      */
@@ -83,7 +134,7 @@ public interface ClockModel {
     double getDoubleCurrentTime();
 
     /**
-     * @return the timer of the simulation.
+     * @return the scheduler that paces the steps of the simulation.
      */
-    Timer getTimer();
+    TickScheduler getTickScheduler();
 }
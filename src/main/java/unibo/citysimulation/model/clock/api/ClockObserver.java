@@ -2,11 +2,20 @@ package unibo.citysimulation.model.clock.api;
 
 import java.time.LocalTime;
 
+import unibo.citysimulation.utilities.ConstantAndResourceLoader;
+
 /**
  * Interface for classes that observe the clock model.
+ * The clock notifies its model observers through {@link #onTimeUpdate(int, int)}, which carries the
+ * time as a primitive value; views only need to implement {@link #onTimeUpdate(LocalTime, int)}.
  */
 public interface ClockObserver {
 
+    /**
+     * Value returned by {@link #secondsUntilNextEvent(int, int)} when the observer has nothing scheduled.
+     */
+    int NO_EVENT = Integer.MAX_VALUE;
+
     /**
      * Called when the time is updated in the clock model.
      * 
@@ -14,4 +23,27 @@ public interface ClockObserver {
      * @param currentDay The current day.
      */
     void onTimeUpdate(LocalTime currentTime, int currentDay);
+
+    /**
+     * Called when the time is updated in the clock model, with the time given in seconds.
+     * By default the time is converted and passed to {@link #onTimeUpdate(LocalTime, int)}.
+     * 
+     * @param elapsedSeconds The seconds elapsed since the start of the simulation.
+     * @param currentDay The current day.
+     */
+    default void onTimeUpdate(final int elapsedSeconds, final int currentDay) {
+        onTimeUpdate(LocalTime.ofSecondOfDay(elapsedSeconds % ConstantAndResourceLoader.SECONDS_IN_A_DAY), currentDay);
+    }
+
+    /**
+     * Tells how long the observer can go without updates, so that the clock can skip the idle time.
+     * By default the observer is updated at every step.
+     * 
+     * @param elapsedSeconds The seconds elapsed since the start of the simulation.
+     * @param currentDay The current day.
+     * @return The seconds until the next update this observer needs, or {@link #NO_EVENT}.
+     */
+    default int secondsUntilNextEvent(final int elapsedSeconds, final int currentDay) {
+        return ConstantAndResourceLoader.SECONDS_IN_A_TICK;
+    }
 }
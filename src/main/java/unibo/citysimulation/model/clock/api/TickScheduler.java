@@ -0,0 +1,80 @@
+package unibo.citysimulation.model.clock.api;
+
+/**
+ * Represents the scheduler that paces the steps of the simulation clock.
+ * It runs a task at a fixed period, compensating the drift caused by slow steps,
+ * and exposes counters about how well the period is respected.
+ */
+public interface TickScheduler {
+
+    /**
+     * Represents what the scheduler does when a step lasts longer than its period.
+     */
+    enum CatchUpPolicy {
+        /**
+         * The missed steps are run back-to-back until the schedule is recovered.
+         */
+        BURST,
+        /**
+         * The missed steps are dropped and the schedule restarts from the next period boundary.
+         */
+        SKIP
+    }
+
+    /**
+     * Starts running the task at the given period, replacing any previous task.
+     * 
+     * @param task         the task to run at every step
+     * @param periodMillis the period between two steps, in milliseconds
+     */
+    void start(Runnable task, long periodMillis);
+
+    /**
+     * Changes the period of a running scheduler without restarting it.
+     * 
+     * @param periodMillis the new period between two steps, in milliseconds
+     */
+    void setPeriod(long periodMillis);
+
+    /**
+     * Suspends the steps until {@link #resume()} is called; no thread wakes up while paused.
+     * Unless called by a step itself, it returns only once the running step, if any, has completed.
+     */
+    void pause();
+
+    /**
+     * Resumes the steps after a {@link #pause()}.
+     */
+    void resume();
+
+    /**
+     * Stops the scheduler and releases its thread.
+     * Unless called by a step itself, it returns only once the running step, if any, has completed.
+     */
+    void stop();
+
+    /**
+     * @return true if the scheduler has been started and not stopped.
+     */
+    boolean isRunning();
+
+    /**
+     * @return true if the scheduler is paused.
+     */
+    boolean isPaused();
+
+    /**
+     * @return the number of steps that ended after the start of the following one.
+     */
+    long getOverrunCount();
+
+    /**
+     * @return the delay between the planned and the actual start of the last step, in nanoseconds.
+     */
+    long getLastLagNanos();
+
+    /**
+     * @return the maximum delay between the planned and the actual start of a step, in nanoseconds.
+     */
+    long getMaxLagNanos();
+}
@@ -1,14 +1,14 @@
 package unibo.citysimulation.model.clock.impl;
 
 import java.time.LocalTime;
-import java.util.Timer;
-import java.util.TimerTask;
 
 import unibo.citysimulation.model.clock.api.ClockModel;
 import unibo.citysimulation.model.clock.api.ClockObserver;
+import unibo.citysimulation.model.clock.api.TickScheduler;
+import unibo.citysimulation.model.clock.api.TickScheduler.CatchUpPolicy;
 import unibo.citysimulation.utilities.ConstantAndResourceLoader;
 import java.util.List;
-import java.util.ArrayList;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Represents the clock model for the simulation.
@@ -17,11 +17,13 @@ public final class ClockModelImpl implements ClockModel {
 
     private final int totalDays;
     private int updateRate = ConstantAndResourceLoader.TIME_UPDATE_RATE;
-    private Timer timer;
+    private final TickScheduler tickScheduler;
     private int currentDay;
-    private LocalTime currentTime;
+    private int elapsedSeconds;
     private final List<ClockObserver> observers;
+    private final ViewObserverDispatcher viewDispatcher;
     private boolean isPaused;
+    private volatile boolean skipIdle;
 
     /**
      * Constructs a ClockModel object with the specified total number of simulation days.
@@ -29,14 +31,25 @@ public final class ClockModelImpl implements ClockModel {
      * @param totalDays The total number of simulation days
      */
     public ClockModelImpl(final int totalDays) {
+        this(totalDays, new DriftCompensatingTickScheduler(CatchUpPolicy.SKIP));
+    }
+
+    /**
+     * Constructs a ClockModel object paced by the given scheduler.
+     * 
+     * @param totalDays     The total number of simulation days
+     * @param tickScheduler The scheduler that runs the simulation steps
+     */
+    public ClockModelImpl(final int totalDays, final TickScheduler tickScheduler) {
         this.totalDays = totalDays;
-        this.observers = new ArrayList<>();
+        this.tickScheduler = tickScheduler;
+        this.observers = new CopyOnWriteArrayList<>();
+        this.viewDispatcher = new ViewObserverDispatcher();
         this.currentDay = 1;
-        this.currentTime = LocalTime.of(0, 0);
     }
 
     /**
-     * Adds an observer to the clock model.
+     * Adds a model observer to the clock model.
      * 
      * @param observer The observer to add
      */
@@ -45,6 +58,16 @@ public final class ClockModelImpl implements ClockModel {
         observers.add(observer);
     }
 
+    /**
+     * Adds a view observer to the clock model.
+     * 
+     * @param observer The observer to add
+     */
+    @Override
+    public void addViewObserver(final ClockObserver observer) {
+        viewDispatcher.addObserver(observer);
+    }
+
     /**
      * Removes an observer from the clock model.
      * 
@@ -53,6 +76,7 @@ public final class ClockModelImpl implements ClockModel {
     @Override
     public void removeObserver(final ClockObserver observer) {
         observers.remove(observer);
+        viewDispatcher.removeObserver(observer);
     }
 
     /**
@@ -62,28 +86,124 @@ public final class ClockModelImpl implements ClockModel {
      */
     @Override
     public void startSimulation(final int updateRate) {
-        if (timer != null) {
-            timer.cancel();
-        }
         this.updateRate = updateRate;
-        this.timer = new Timer();
-        final TimerTask task = new TimerTask() {
-            @Override
-            public void run() {
-                if (!isPaused) {
-                    if (currentDay <= totalDays) {
-                        currentTime = currentTime.plusMinutes(ConstantAndResourceLoader.MINUTES_IN_A_SECOND); 
-                        if (currentTime.getHour() == 0 && currentTime.getMinute() == 0) {
-                            currentDay++;
-                        }
-                        notifyObservers();
-                    } else {
-                        timer.cancel();
-                    }
-                }
+        if (tickScheduler.isRunning()) {
+            tickScheduler.setPeriod(updateRate);
+        } else {
+            tickScheduler.start(this::scheduledTick, updateRate);
+            if (isPaused) {
+                tickScheduler.pause();
+            }
+        }
+    }
+
+    private void scheduledTick() {
+        if (!(skipIdle ? skipToNextEvent() : tick())) {
+            tickScheduler.stop();
+        }
+    }
+
+    /**
+     * Advances the simulation time by one step and notifies the observers.
+     * 
+     * @return true if the clock advanced, false if all the simulation days are over
+     */
+    @Override
+    public boolean tick() {
+        if (currentDay > totalDays) {
+            return false;
+        }
+        setElapsedSeconds(elapsedSeconds + ConstantAndResourceLoader.SECONDS_IN_A_TICK);
+        notifyObservers();
+        return true;
+    }
+
+    /**
+     * Jumps to the next time at which a model observer has something scheduled.
+     * 
+     * @return true if the clock advanced, false if all the simulation days are over
+     */
+    @Override
+    public boolean skipToNextEvent() {
+        return advanceAtMost(Long.MAX_VALUE);
+    }
+
+    /**
+     * Advances the simulation up to the given day and time, stopping at every scheduled event in between.
+     * 
+     * @param day  The target day
+     * @param time The target time
+     * @return true if the target was reached, false if the simulation ended before it
+     */
+    @Override
+    public boolean advanceTo(final int day, final LocalTime time) {
+        final long target = toElapsedSeconds(day, time.toSecondOfDay());
+        if (target < elapsedSeconds || target % ConstantAndResourceLoader.SECONDS_IN_A_TICK != 0) {
+            throw new IllegalArgumentException("Cannot advance to day " + day + " at " + time);
+        }
+        while (elapsedSeconds < target) {
+            if (!advanceAtMost(target - elapsedSeconds)) {
+                return false;
             }
-        };
-        timer.scheduleAtFixedRate(task, 0, updateRate);
+        }
+        return true;
+    }
+
+    /**
+     * Moves the clock to the earliest time needed by a model observer, without going past the
+     * given limit or the end of the simulation, and notifies only the observers due at that time.
+     */
+    private boolean advanceAtMost(final long maxSeconds) {
+        if (currentDay > totalDays) {
+            return false;
+        }
+        final List<ClockObserver> modelObservers = List.copyOf(observers);
+        final int[] waits = new int[modelObservers.size()];
+        long step = Math.min(maxSeconds, toElapsedSeconds(totalDays + 1, 0) - elapsedSeconds);
+        for (int i = 0; i < waits.length; i++) {
+            waits[i] = modelObservers.get(i).secondsUntilNextEvent(elapsedSeconds, currentDay);
+            step = Math.min(step, waits[i]);
+        }
+        final int tickSeconds = ConstantAndResourceLoader.SECONDS_IN_A_TICK;
+        step = Math.max(tickSeconds, (step + tickSeconds - 1) / tickSeconds * tickSeconds);
+
+        setElapsedSeconds(elapsedSeconds + (int) step);
+        for (int i = 0; i < waits.length; i++) {
+            if (waits[i] <= step) {
+                modelObservers.get(i).onTimeUpdate(elapsedSeconds, currentDay);
+            }
+        }
+        viewDispatcher.publish(elapsedSeconds);
+        return true;
+    }
+
+    private void setElapsedSeconds(final int elapsedSeconds) {
+        this.elapsedSeconds = elapsedSeconds;
+        this.currentDay = elapsedSeconds / ConstantAndResourceLoader.SECONDS_IN_A_DAY + 1;
+    }
+
+    private static long toElapsedSeconds(final int day, final int secondOfDay) {
+        return (long) (day - 1) * ConstantAndResourceLoader.SECONDS_IN_A_DAY + secondOfDay;
+    }
+
+    /**
+     * Sets whether the paced simulation skips the idle periods.
+     * 
+     * @param skipIdle true to jump from an event to the next one
+     */
+    @Override
+    public void setSkipIdle(final boolean skipIdle) {
+        this.skipIdle = skipIdle;
+    }
+
+    /**
+     * Gets whether the paced simulation skips the idle periods.
+     * 
+     * @return true if the idle periods are skipped
+     */
+    @Override
+    public boolean isSkipIdle() {
+        return skipIdle;
     }
 
     /**
@@ -91,12 +211,9 @@ public final class ClockModelImpl implements ClockModel {
      */
     @Override
     public void restartSimulation() {
-        if (timer != null) {
-            timer.cancel();
-        }
+        tickScheduler.stop();
         isPaused = false;
-        currentTime = LocalTime.of(0, 0);
-        currentDay = 1;
+        setElapsedSeconds(0);
         this.startSimulation(updateRate);
     }
 
@@ -106,6 +223,11 @@ public final class ClockModelImpl implements ClockModel {
     @Override
     public void pauseSimulation() {
         isPaused = !isPaused;
+        if (isPaused) {
+            tickScheduler.pause();
+        } else {
+            tickScheduler.resume();
+        }
     }
 
     /**
@@ -113,19 +235,30 @@ public final class ClockModelImpl implements ClockModel {
      */
     @Override
     public void stopSimulation() {
-        if (timer != null) {
-            timer.cancel();
-        }
+        tickScheduler.stop();
         isPaused = true;
     }
 
     /**
-     * Notifies all observers of a time update.
+     * Notifies the model observers of a time update, then posts it to the view observers.
      */
     @Override
     public void notifyObservers() {
-        observers.forEach(observer -> observer.onTimeUpdate(currentTime, currentDay));
-    } 
+        for (final ClockObserver observer : observers) {
+            observer.onTimeUpdate(elapsedSeconds, currentDay);
+        }
+        viewDispatcher.publish(elapsedSeconds);
+    }
+
+    /**
+     * Gets the number of view updates replaced by a newer one.
+     * 
+     * @return The number of coalesced view updates
+     */
+    @Override
+    public long getCoalescedViewUpdates() {
+        return viewDispatcher.getCoalescedUpdates();
+    }
 
     /**
      * Gets the current time of the simulation.
@@ -134,7 +267,7 @@ public final class ClockModelImpl implements ClockModel {
      */
     @Override
     public LocalTime getCurrentTime() {
-        return currentTime;
+        return LocalTime.ofSecondOfDay(elapsedSeconds % ConstantAndResourceLoader.SECONDS_IN_A_DAY);
     }
 
     /**
@@ -144,7 +277,7 @@ public final class ClockModelImpl implements ClockModel {
      */
     @Override
     public double getDoubleCurrentTime() {
-        return (double) currentTime.toSecondOfDay();
+        return (double) (elapsedSeconds % ConstantAndResourceLoader.SECONDS_IN_A_DAY);
     }
 
     /**
@@ -175,6 +308,9 @@ public final class ClockModelImpl implements ClockModel {
     @Override
     public void setUpdateRate(final int updateRate) {
         this.updateRate = updateRate;
+        if (tickScheduler.isRunning()) {
+            tickScheduler.setPeriod(updateRate);
+        }
     }
 
     /**
@@ -188,12 +324,12 @@ public final class ClockModelImpl implements ClockModel {
     }
 
     /**
-     * Gets the timer of the simulation.
+     * Gets the scheduler that paces the simulation.
      * 
-     * @return The timer
+     * @return The tick scheduler
      */
     @Override
-    public Timer getTimer() {
-        return timer;
+    public TickScheduler getTickScheduler() {
+        return tickScheduler;
     }
 }
@@ -2,22 +2,29 @@ package unibo.citysimulation.model.clock.impl;
 
 import unibo.citysimulation.model.business.impl.Business;
 import unibo.citysimulation.model.business.impl.EmploymentOfficeManager;
+import unibo.citysimulation.model.business.impl.PayrollLedger;
 import unibo.citysimulation.model.business.utilities.EmploymentOfficeData;
 import unibo.citysimulation.model.clock.api.ClockObserver;
+import unibo.citysimulation.utilities.ConstantAndResourceLoader;
 
 import java.util.List;
 import java.time.LocalTime;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * A ClockObserver implementation that handles business-related operations based on time updates.
+ * Businesses are indexed by their opening and closing time, so only the businesses that open
+ * or close at the current time are visited.
  */
 public class ClockObserverBusiness implements ClockObserver {
-    private final List<Business> businesses;
+    private final TimingWheel<Business> openings;
+    private final TimingWheel<Business> closings;
     private final EmploymentOfficeManager employmentManager;
     private final Map<Business, Integer> businessHiredCountMap;
+    private final Optional<PayrollLedger> payroll;
 
     /**
      * Constructs a CloclObserverBusiness object with the given list of businesses and employment office.
@@ -26,30 +33,120 @@ public class ClockObserverBusiness implements ClockObserver {
      * @param employmentOffice the employment office
      */
     public ClockObserverBusiness(final List<Business> businesses, final EmploymentOfficeData employmentOffice) {
-        this.businesses = Collections.unmodifiableList(businesses);
-        this.employmentManager = new EmploymentOfficeManager(employmentOffice);
+        this(businesses, new EmploymentOfficeManager(employmentOffice));
+    }
+
+    /**
+     * Constructs a ClockObserverBusiness object with the given list of businesses and employment office manager.
+     * 
+     * @param businesses the list of businesses
+     * @param employmentManager the manager of the employment office
+     */
+    public ClockObserverBusiness(final List<Business> businesses, final EmploymentOfficeManager employmentManager) {
+        this(businesses, employmentManager, Optional.empty());
+    }
+
+    /**
+     * Constructs a ClockObserverBusiness object paying the employees through a payroll ledger,
+     * in one pass for all the businesses closing at the same time.
+     * 
+     * @param businesses the list of businesses
+     * @param employmentManager the manager of the employment office
+     * @param payroll the ledger paying the employees
+     */
+    public ClockObserverBusiness(final List<Business> businesses, final EmploymentOfficeManager employmentManager,
+            final PayrollLedger payroll) {
+        this(businesses, employmentManager, Optional.of(payroll));
+    }
+
+    private ClockObserverBusiness(final List<Business> businesses, final EmploymentOfficeManager employmentManager,
+            final Optional<PayrollLedger> payroll) {
+        this.payroll = payroll;
+        this.openings = new TimingWheel<>(ConstantAndResourceLoader.SECONDS_IN_A_TICK);
+        this.closings = new TimingWheel<>(ConstantAndResourceLoader.SECONDS_IN_A_TICK);
+        this.employmentManager = employmentManager;
         this.businessHiredCountMap = new HashMap<>();
+        for (final Business business : businesses) {
+            openings.schedule(business.getOpeningSecond(), business);
+            closings.schedule(business.getClosingSecond(), business);
+        }
     }
 
     /**
      * Handles business operations based on the current time and day.
+     * At opening time the delays are checked and new employees are hired for all the opening businesses at once,
+     * at closing time employees are fired and paid.
+     * Steps in which no business opens or closes return without doing anything.
      * 
-     * @param currentTime the current time
+     * @param elapsedSeconds the seconds elapsed since the start of the simulation
      * @param currentDay the current day
      */
     @Override
-    public void onTimeUpdate(final LocalTime currentTime, final int currentDay) {
-        for (final Business business : businesses) {
-            business.checkEmployeeDelays(currentTime);
-            if (currentTime.equals(business.getBusinessData().opLocalTime())) {
-                final int hiredCount = employmentManager.handleEmployeeHiring(business);
-                businessHiredCountMap.put(business, hiredCount);
+    public void onTimeUpdate(final int elapsedSeconds, final int currentDay) {
+        final int now = elapsedSeconds % ConstantAndResourceLoader.SECONDS_IN_A_DAY;
+        if (!openings.isEmptyAt(now)) {
+            open(now);
+        }
+        if (!closings.isEmptyAt(now)) {
+            close(now, currentDay);
+        }
+    }
+
+    private void open(final int now) {
+        final List<Business> opening = new ArrayList<>();
+        for (final Business business : openings.itemsAt(now)) {
+            business.checkEmployeeDelays(now);
+            if (now == business.getOpeningSecond()) {
+                opening.add(business);
             }
-            if (currentTime.equals(business.getBusinessData().clLocalTime())) {
+        }
+        if (!opening.isEmpty()) {
+            businessHiredCountMap.putAll(employmentManager.handleEmployeeHiring(opening));
+        }
+    }
+
+    private void close(final int now, final int currentDay) {
+        final List<Business> closing = new ArrayList<>();
+        for (final Business business : closings.itemsAt(now)) {
+            if (now == business.getClosingSecond()) {
                 final int hiredCount = businessHiredCountMap.getOrDefault(business, 0);
                 employmentManager.handleEmployeeFiring(business, hiredCount);
-                employmentManager.handleEmployyePay(business);
+                closing.add(business);
             }
         }
+        if (!closing.isEmpty()) {
+            payroll.ifPresentOrElse(ledger -> ledger.pay(closing, currentDay),
+                    () -> closing.forEach(employmentManager::handleEmployyePay));
+        }
+    }
+
+    /**
+     * Handles business operations based on the current time and day.
+     * 
+     * @param currentTime the current time
+     * @param currentDay the current day
+     */
+    @Override
+    public void onTimeUpdate(final LocalTime currentTime, final int currentDay) {
+        onTimeUpdate((currentDay - 1) * ConstantAndResourceLoader.SECONDS_IN_A_DAY + currentTime.toSecondOfDay(),
+                currentDay);
+    }
+
+    /**
+     * Returns the time left until the next opening or closing of a business.
+     * 
+     * @param elapsedSeconds the seconds elapsed since the start of the simulation
+     * @param currentDay the current day
+     * @return the seconds until the next opening or closing, or {@link #NO_EVENT} if there are no businesses
+     */
+    @Override
+    public int secondsUntilNextEvent(final int elapsedSeconds, final int currentDay) {
+        final int now = elapsedSeconds % ConstantAndResourceLoader.SECONDS_IN_A_DAY;
+        return Math.min(waitOrNoEvent(openings, now), waitOrNoEvent(closings, now));
+    }
+
+    private static int waitOrNoEvent(final TimingWheel<Business> wheel, final int now) {
+        final int wait = wheel.secondsUntilNext(now);
+        return wait < 0 ? NO_EVENT : wait;
     }
 }
@@ -1,38 +1,157 @@
 package unibo.citysimulation.model.clock.impl;
 
 import java.time.LocalTime;
-import java.util.List;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import unibo.citysimulation.model.clock.api.ClockObserver;
 import unibo.citysimulation.model.person.api.DynamicPerson;
+import unibo.citysimulation.model.person.api.StaticPerson.PersonState;
+import unibo.citysimulation.utilities.ConstantAndResourceLoader;
 
 /**
  * Represents an observer for the clock model that observes people.
+ * People are kept in an event calendar keyed by the time of their next action,
+ * so every update only touches the people that have something to do.
+ *
+ * <p>
+ * At every update the arrivals are handled before the departures. Arrivals only release
+ * places on the transport lines, so they do not depend on each other and can be split in
+ * fixed-size blocks run on a {@link ForkJoinPool}. Then the lines freed by the arrivals let their
+ * waiting riders board, and the departures follow; both depend on the congestion left by the
+ * previous ones, so they always run in order: the outcome of an update is the same whether
+ * people are updated in parallel or not.
+ * </p>
  */
+@SuppressFBWarnings(value = "EI2", justification = """
+    The pool is shared with the rest of the application on purpose.
+    """)
 public class ClockObserverPerson implements ClockObserver {
-    private final List<List<DynamicPerson>> people;
+    private final TimingWheel<DynamicPerson> calendar;
+    private final Optional<ForkJoinPool> pool;
 
     /**
-     * Constructs a ClockObserverPerson object with the specified list of people.
+     * Constructs a ClockObserverPerson object with the specified list of people,
+     * updating them on the calling thread.
      * 
      * @param people The list of people to observe.
      */
     public ClockObserverPerson(final List<List<DynamicPerson>> people) {
-        this.people = new ArrayList<>(people);
+        this(people, Optional.empty());
+    }
+
+    /**
+     * Constructs a ClockObserverPerson object with the specified list of people,
+     * handling the arrivals in parallel on the given pool.
+     * 
+     * @param people The list of people to observe.
+     * @param pool The pool running the blocks of arrivals.
+     */
+    public ClockObserverPerson(final List<List<DynamicPerson>> people, final ForkJoinPool pool) {
+        this(people, Optional.of(pool));
+    }
+
+    private ClockObserverPerson(final List<List<DynamicPerson>> people, final Optional<ForkJoinPool> pool) {
+        this.calendar = new TimingWheel<>(ConstantAndResourceLoader.SECONDS_IN_A_TICK);
+        this.pool = pool;
+        people.stream()
+              .flatMap(List::stream)
+              .forEach(person -> calendar.schedule(person.getNextEventTime(), person));
+    }
+
+    /**
+     * Called when the time is updated in the clock model.
+     * This method checks the state of the people whose next action is due,
+     * then schedules their following action. People that could not leave
+     * because of congestion leave the calendar and wait in the queue of the congested line,
+     * until an arrival frees that line.
+     * 
+     * @param elapsedSeconds The seconds elapsed since the start of the simulation.
+     * @param currentDay The current day.
+     */
+    @Override
+    public void onTimeUpdate(final int elapsedSeconds, final int currentDay) {
+        final int now = elapsedSeconds % ConstantAndResourceLoader.SECONDS_IN_A_DAY;
+        final List<DynamicPerson> due = calendar.drain(now);
+        if (due.isEmpty()) {
+            return;
+        }
+        final boolean[] arriving = new boolean[due.size()];
+        for (int i = 0; i < arriving.length; i++) {
+            arriving[i] = due.get(i).getState() == PersonState.MOVING;
+        }
+        handleArrivals(due, arriving, now);
+        final List<DynamicPerson> boarded = new ArrayList<>();
+        for (int i = 0; i < arriving.length; i++) {
+            if (arriving[i]) {
+                due.get(i).admitWaitingRiders(now, boarded::add);
+            }
+        }
+        for (int i = 0; i < arriving.length; i++) {
+            if (!arriving[i]) {
+                due.get(i).checkState(now);
+            }
+        }
+        for (final DynamicPerson person : due) {
+            if (!person.isLate()) {
+                calendar.schedule(person.getNextEventTime(), person);
+            }
+        }
+        for (final DynamicPerson person : boarded) {
+            calendar.schedule(person.getNextEventTime(), person);
+        }
+    }
+
+    private void handleArrivals(final List<DynamicPerson> due, final boolean[] arriving, final int now) {
+        final int blockSize = ConstantAndResourceLoader.PERSON_UPDATE_BLOCK_SIZE;
+        if (pool.isEmpty() || due.size() <= blockSize) {
+            handleArrivals(due, arriving, now, 0, due.size());
+            return;
+        }
+        final List<ForkJoinTask<?>> blocks = new ArrayList<>();
+        for (int from = 0; from < due.size(); from += blockSize) {
+            final int start = from;
+            final int end = Math.min(due.size(), from + blockSize);
+            blocks.add(pool.get().submit(() -> handleArrivals(due, arriving, now, start, end)));
+        }
+        blocks.forEach(ForkJoinTask::join);
+    }
+
+    private static void handleArrivals(final List<DynamicPerson> due, final boolean[] arriving, final int now,
+            final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            if (arriving[i]) {
+                due.get(i).checkState(now);
+            }
+        }
     }
 
     /**
      * Called when the time is updated in the clock model.
-     * This method checks the state of all people in the list of people.
      * 
      * @param currentTime The current time.
      * @param currentDay The current day.
      */
     @Override
     public void onTimeUpdate(final LocalTime currentTime, final int currentDay) {
-        people.stream()
-              .flatMap(List::stream)
-              .forEach(person -> person.checkState(currentTime));
+        onTimeUpdate((currentDay - 1) * ConstantAndResourceLoader.SECONDS_IN_A_DAY + currentTime.toSecondOfDay(),
+                currentDay);
+    }
+
+    /**
+     * Returns the time left until the next scheduled action of a person.
+     * 
+     * @param elapsedSeconds The seconds elapsed since the start of the simulation.
+     * @param currentDay The current day.
+     * @return The seconds until the next scheduled action, or {@link #NO_EVENT} if nobody is scheduled.
+     */
+    @Override
+    public int secondsUntilNextEvent(final int elapsedSeconds, final int currentDay) {
+        final int wait = calendar.secondsUntilNext(elapsedSeconds);
+        return wait < 0 ? NO_EVENT : wait;
     }
 }
@@ -0,0 +1,222 @@
+package unibo.citysimulation.model.clock.impl;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import unibo.citysimulation.model.clock.api.TickScheduler;
+
+/**
+ * A tick scheduler built on a single-thread {@link ScheduledExecutorService}.
+ * Every step is planned on an absolute deadline grid, so slow steps do not make the
+ * clock drift; when a step overruns its period the configured {@link CatchUpPolicy} applies.
+ * While paused no step is scheduled at all, so the thread stays parked.
+ * Pausing or stopping the scheduler from another thread waits for the running step to complete,
+ * so no step is running once they return.
+ */
+public final class DriftCompensatingTickScheduler implements TickScheduler {
+    private static final long MAX_BURST_PERIODS = 10;
+
+    private final CatchUpPolicy catchUpPolicy;
+    private ScheduledExecutorService executor;
+    private ScheduledFuture<?> pending;
+    private Thread tickThread;
+    private Runnable task;
+    private long periodNanos;
+    private long nextDeadline;
+    private long generation;
+    private boolean running;
+    private boolean paused;
+    private long overrunCount;
+    private long lastLagNanos;
+    private long maxLagNanos;
+
+    /**
+     * Constructs a scheduler with the given catch-up policy.
+     * 
+     * @param catchUpPolicy what to do when a step lasts longer than its period
+     */
+    public DriftCompensatingTickScheduler(final CatchUpPolicy catchUpPolicy) {
+        this.catchUpPolicy = catchUpPolicy;
+    }
+
+    /**
+     * Starts running the task at the given period, replacing any previous task.
+     * 
+     * @param task         the task to run at every step
+     * @param periodMillis the period between two steps, in milliseconds
+     * @throws IllegalArgumentException if the period is not positive
+     */
+    @Override
+    public synchronized void start(final Runnable task, final long periodMillis) {
+        checkPeriod(periodMillis);
+        cancelPending();
+        if (executor == null) {
+            executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "clock-tick-scheduler");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        this.task = task;
+        this.periodNanos = TimeUnit.MILLISECONDS.toNanos(periodMillis);
+        this.running = true;
+        this.paused = false;
+        this.nextDeadline = System.nanoTime();
+        arm();
+    }
+
+    /**
+     * Changes the period, keeping the time already elapsed since the last step.
+     * 
+     * @param periodMillis the new period between two steps, in milliseconds
+     * @throws IllegalArgumentException if the period is not positive
+     */
+    @Override
+    public synchronized void setPeriod(final long periodMillis) {
+        checkPeriod(periodMillis);
+        final long newPeriod = TimeUnit.MILLISECONDS.toNanos(periodMillis);
+        nextDeadline = nextDeadline - periodNanos + newPeriod;
+        periodNanos = newPeriod;
+        if (running && !paused) {
+            cancelPending();
+            arm();
+        }
+    }
+
+    /**
+     * Suspends the steps, cancelling the next planned one and waiting for the running one.
+     */
+    @Override
+    public synchronized void pause() {
+        if (running && !paused) {
+            paused = true;
+            cancelPending();
+        }
+        awaitRunningTick();
+    }
+
+    /**
+     * Resumes the steps, planning the next one a period from now.
+     */
+    @Override
+    public synchronized void resume() {
+        if (running && paused) {
+            paused = false;
+            nextDeadline = System.nanoTime() + periodNanos;
+            arm();
+        }
+    }
+
+    /**
+     * Stops the scheduler and shuts its thread down, waiting for the running step.
+     */
+    @Override
+    public synchronized void stop() {
+        running = false;
+        paused = false;
+        cancelPending();
+        awaitRunningTick();
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public synchronized boolean isPaused() {
+        return paused;
+    }
+
+    @Override
+    public synchronized long getOverrunCount() {
+        return overrunCount;
+    }
+
+    @Override
+    public synchronized long getLastLagNanos() {
+        return lastLagNanos;
+    }
+
+    @Override
+    public synchronized long getMaxLagNanos() {
+        return maxLagNanos;
+    }
+
+    private void checkPeriod(final long periodMillis) {
+        if (periodMillis <= 0) {
+            throw new IllegalArgumentException("Period must be positive");
+        }
+    }
+
+    private void arm() {
+        final long armedGeneration = generation;
+        final long delay = Math.max(0, nextDeadline - System.nanoTime());
+        pending = executor.schedule(() -> fire(armedGeneration), delay, TimeUnit.NANOSECONDS);
+    }
+
+    private void cancelPending() {
+        generation++;
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+    }
+
+    /**
+     * Waits for the running step to complete, releasing the lock meanwhile, unless the caller is the step itself.
+     */
+    private void awaitRunningTick() {
+        while (tickThread != null && tickThread != Thread.currentThread()) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void fire(final long firedGeneration) {
+        final Runnable toRun;
+        synchronized (this) {
+            if (firedGeneration != generation) {
+                return;
+            }
+            lastLagNanos = Math.max(0, System.nanoTime() - nextDeadline);
+            maxLagNanos = Math.max(maxLagNanos, lastLagNanos);
+            toRun = task;
+            tickThread = Thread.currentThread();
+        }
+        // The task runs outside the lock, so it can pause or stop the scheduler itself.
+        try {
+            toRun.run();
+        } finally {
+            synchronized (this) {
+                tickThread = null;
+                notifyAll();
+            }
+        }
+        synchronized (this) {
+            if (firedGeneration != generation) {
+                return;
+            }
+            nextDeadline += periodNanos;
+            final long now = System.nanoTime();
+            if (now > nextDeadline) {
+                overrunCount++;
+                final long missedPeriods = (now - nextDeadline) / periodNanos + 1;
+                if (catchUpPolicy == CatchUpPolicy.SKIP || missedPeriods > MAX_BURST_PERIODS) {
+                    nextDeadline += missedPeriods * periodNanos;
+                }
+            }
+            arm();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package unibo.citysimulation.model.clock.impl;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import unibo.citysimulation.utilities.ConstantAndResourceLoader;
+
+/**
+ * An event calendar for a single simulated day, made of one bucket for every clock step.
+ * Items are scheduled at a second of the day and collected when the clock reaches their bucket,
+ * so a step only pays for the items that are due at that step.
+ *
+ * @param <T> the type of the scheduled items
+ */
+public final class TimingWheel<T> {
+    private final int slotSeconds;
+    private final List<List<T>> slots;
+    private final BitSet occupied;
+    private int size;
+
+    /**
+     * Constructs an empty timing wheel.
+     *
+     * @param slotSeconds the number of seconds covered by every bucket, usually the length of a clock step
+     */
+    public TimingWheel(final int slotSeconds) {
+        this.slotSeconds = slotSeconds;
+        final int slotCount = (ConstantAndResourceLoader.SECONDS_IN_A_DAY + slotSeconds - 1) / slotSeconds;
+        this.slots = new ArrayList<>(slotCount);
+        this.occupied = new BitSet(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            slots.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Schedules an item at the given time; times outside the day wrap around it.
+     *
+     * @param secondOfDay the time of the event, in seconds
+     * @param item        the item to schedule
+     */
+    public void schedule(final int secondOfDay, final T item) {
+        final int slot = slotOf(secondOfDay);
+        slots.get(slot).add(item);
+        occupied.set(slot);
+        size++;
+    }
+
+    /**
+     * Removes and returns the items scheduled in the bucket containing the given time.
+     * Items scheduled again in the same bucket while handling the returned ones are due the next day.
+     *
+     * @param secondOfDay the current time, in seconds
+     * @return the due items, in scheduling order
+     */
+    public List<T> drain(final int secondOfDay) {
+        final int slot = slotOf(secondOfDay);
+        final List<T> due = slots.get(slot);
+        if (due.isEmpty()) {
+            return Collections.emptyList();
+        }
+        slots.set(slot, new ArrayList<>());
+        occupied.clear(slot);
+        size -= due.size();
+        return due;
+    }
+
+    /**
+     * Returns the items scheduled in the bucket containing the given time, leaving them scheduled.
+     * This suits recurring events that happen at the same time every day.
+     *
+     * @param secondOfDay the current time, in seconds
+     * @return an unmodifiable view of the items, in scheduling order
+     */
+    public List<T> itemsAt(final int secondOfDay) {
+        final int slot = slotOf(secondOfDay);
+        return occupied.get(slot) ? Collections.unmodifiableList(slots.get(slot)) : Collections.emptyList();
+    }
+
+    /**
+     * @param secondOfDay the current time, in seconds
+     * @return true if no item is scheduled in the bucket containing the given time
+     */
+    public boolean isEmptyAt(final int secondOfDay) {
+        return !occupied.get(slotOf(secondOfDay));
+    }
+
+    /**
+     * Finds the closest bucket holding items after the one containing the given time.
+     * If only the current bucket holds items, it is found again the next day.
+     *
+     * @param secondOfDay the current time, in seconds
+     * @return the seconds from the given time to the start of that bucket, or -1 if the wheel is empty
+     */
+    public int secondsUntilNext(final int secondOfDay) {
+        if (occupied.isEmpty()) {
+            return -1;
+        }
+        final int now = Math.floorMod(secondOfDay, ConstantAndResourceLoader.SECONDS_IN_A_DAY);
+        int next = occupied.nextSetBit(now / slotSeconds + 1);
+        if (next < 0) {
+            next = occupied.nextSetBit(0) + slots.size();
+        }
+        return next * slotSeconds - now;
+    }
+
+    /**
+     * @return the number of scheduled items.
+     */
+    public int size() {
+        return size;
+    }
+
+    private int slotOf(final int secondOfDay) {
+        return Math.floorMod(secondOfDay, ConstantAndResourceLoader.SECONDS_IN_A_DAY) / slotSeconds;
+    }
+}
@@ -0,0 +1,77 @@
+package unibo.citysimulation.model.clock.impl;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.swing.SwingUtilities;
+
+import unibo.citysimulation.model.clock.api.ClockObserver;
+import unibo.citysimulation.utilities.ConstantAndResourceLoader;
+
+/**
+ * Dispatches the time updates to the view observers on the Event Dispatch Thread.
+ * Updates go through a single-slot mailbox holding only the latest time: when the view
+ * falls behind, the updates it did not consume yet are replaced instead of queued,
+ * so a slow repaint never delays the simulation.
+ */
+public final class ViewObserverDispatcher {
+    private static final int EMPTY = -1;
+
+    private final List<ClockObserver> observers = new CopyOnWriteArrayList<>();
+    private final AtomicInteger mailbox = new AtomicInteger(EMPTY);
+    private final AtomicLong coalescedUpdates = new AtomicLong();
+
+    /**
+     * Adds a view observer.
+     *
+     * @param observer the observer to add
+     */
+    public void addObserver(final ClockObserver observer) {
+        observers.add(observer);
+    }
+
+    /**
+     * Removes a view observer.
+     *
+     * @param observer the observer to remove
+     */
+    public void removeObserver(final ClockObserver observer) {
+        observers.remove(observer);
+    }
+
+    /**
+     * Posts the latest time to the mailbox, scheduling a delivery on the Event Dispatch Thread
+     * unless one is already pending.
+     *
+     * @param elapsedSeconds the seconds elapsed since the start of the simulation
+     */
+    public void publish(final int elapsedSeconds) {
+        if (observers.isEmpty()) {
+            return;
+        }
+        if (mailbox.getAndSet(elapsedSeconds) == EMPTY) {
+            SwingUtilities.invokeLater(this::deliver);
+        } else {
+            coalescedUpdates.incrementAndGet();
+        }
+    }
+
+    /**
+     * @return the number of updates replaced by a newer one before the view could consume them.
+     */
+    public long getCoalescedUpdates() {
+        return coalescedUpdates.get();
+    }
+
+    private void deliver() {
+        final int elapsedSeconds = mailbox.getAndSet(EMPTY);
+        if (elapsedSeconds != EMPTY) {
+            final LocalTime currentTime = LocalTime.ofSecondOfDay(elapsedSeconds % ConstantAndResourceLoader.SECONDS_IN_A_DAY);
+            final int currentDay = elapsedSeconds / ConstantAndResourceLoader.SECONDS_IN_A_DAY + 1;
+            observers.forEach(observer -> observer.onTimeUpdate(currentTime, currentDay));
+        }
+    }
+}
@@ -3,6 +3,7 @@ package unibo.citysimulation.model.graphics.api;
 
 import unibo.citysimulation.model.business.impl.Business;
 import unibo.citysimulation.model.person.api.DynamicPerson;
+import unibo.citysimulation.model.person.impl.PersonStateCounters;
 import unibo.citysimulation.model.transport.api.TransportLine;
 
 import org.jfree.data.xy.XYSeriesCollection;
@@ -29,6 +30,17 @@ public interface GraphicsModel {
      */
     void updateDataset(List<DynamicPerson> people, List<TransportLine> lines, List<Business> businesses, int updateRate);
 
+    /**
+     * Updates the datasets with new values, reading the states of the people from their counters.
+     *
+     * @param states     the number of people in every state
+     * @param lines      the list of transport line objects representing the transportation network
+     * @param businesses the list of business objects representing the businesses
+     * @param updateRate the rate at which the data is updated for debug concurrency access
+     */
+    void updateDataset(PersonStateCounters states, List<TransportLine> lines, List<Business> businesses,
+            int updateRate);
+
     /**
      * Retrieves the datasets used in the graphics model.
      *
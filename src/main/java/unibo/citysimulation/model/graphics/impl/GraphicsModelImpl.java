@@ -3,11 +3,13 @@ package unibo.citysimulation.model.graphics.impl;
 import unibo.citysimulation.model.business.impl.Business;
 import unibo.citysimulation.model.graphics.api.GraphicsModel;
 import unibo.citysimulation.model.person.api.DynamicPerson;
+import unibo.citysimulation.model.person.impl.PersonStateCounters;
 import unibo.citysimulation.model.transport.api.TransportLine;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 import java.awt.Color;
 import org.jfree.data.xy.XYSeriesCollection;
 
@@ -51,9 +53,28 @@ public final class GraphicsModelImpl implements GraphicsModel {
     @Override
     public void updateDataset(final List<DynamicPerson> people, final List<TransportLine> lines,
             final List<Business> businesses, final int updateRate) {
+        update(() -> StatisticCalculator.getPeopleStateCounts(people), lines, businesses, updateRate);
+    }
+
+    /**
+     * Updates the datasets with new values, reading the states of the people from their counters.
+     *
+     * @param states     The number of people in every state.
+     * @param lines      List of transport line objects representing the
+     *                   transportation network.
+     * @param businesses List of business objects representing the businesses.
+     */
+    @Override
+    public void updateDataset(final PersonStateCounters states, final List<TransportLine> lines,
+            final List<Business> businesses, final int updateRate) {
+        update(() -> StatisticCalculator.getPeopleStateCounts(states), lines, businesses, updateRate);
+    }
+
+    private void update(final Supplier<List<Integer>> peopleStates, final List<TransportLine> lines,
+            final List<Business> businesses, final int updateRate) {
         iterationCount++;
         if (iterationCount % (ITERATION_PER_UPDATE / updateRate) == 0) {
-            datasetManager.updateDataset(StatisticCalculator.getPeopleStateCounts(people),
+            datasetManager.updateDataset(peopleStates.get(),
                 StatisticCalculator.getTransportLinesCongestion(lines),
                 StatisticCalculator.getBusinessesOccupation(businesses));
         }
@@ -3,6 +3,7 @@ package unibo.citysimulation.model.graphics.impl;
 import unibo.citysimulation.model.business.impl.Business;
 import unibo.citysimulation.model.person.api.DynamicPerson;
 import unibo.citysimulation.model.person.api.StaticPerson.PersonState;
+import unibo.citysimulation.model.person.impl.PersonStateCounters;
 import unibo.citysimulation.model.transport.api.TransportLine;
 
 import java.util.Arrays;
@@ -19,21 +20,75 @@ public final class StatisticCalculator {
 
     /**
      * Calculates the percentage of people in each state (AT_HOME, MOVING, WORKING)
-     * from the given list of people.
+     * from the given list of people, counting every member of the cohorts.
      *
      * @param people the list of dynamic person objects representing the population
      * @return a list of integers representing the percentage of people in each
      *         state: AT_HOME, MOVING, and WORKING
      */
-    static List<Integer> getPeopleStateCounts(final List<DynamicPerson> people) {
+    public static List<Integer> getPeopleStateCounts(final List<DynamicPerson> people) {
         return Arrays.asList(
                 calculatePercentage(people, PersonState.AT_HOME),
                 calculatePercentage(people, PersonState.MOVING),
                 calculatePercentage(people, PersonState.WORKING));
     }
 
+    /**
+     * Calculates the percentage of people in each state (AT_HOME, MOVING, WORKING)
+     * from the counters kept up to date by the population, without visiting the people.
+     *
+     * @param counters the number of people in every state
+     * @return a list of integers representing the percentage of people in each
+     *         state: AT_HOME, MOVING, and WORKING
+     */
+    public static List<Integer> getPeopleStateCounts(final PersonStateCounters counters) {
+        final long population = counters.getPopulation();
+        return Arrays.asList(
+                (int) (counters.getCount(PersonState.AT_HOME) * 100.0 / population),
+                (int) (counters.getCount(PersonState.MOVING) * 100.0 / population),
+                (int) (counters.getCount(PersonState.WORKING) * 100.0 / population));
+    }
+
     static int calculatePercentage(final List<DynamicPerson> people, final PersonState state) {
-        return (int) (people.stream().filter(person -> person.getState() == state).count() * 100.0 / people.size());
+        long inState = 0;
+        for (final DynamicPerson person : people) {
+            if (person.getState() == state) {
+                inState += person.getCohortSize();
+            }
+        }
+        return (int) (inState * 100.0 / getPopulation(people));
+    }
+
+    /**
+     * Counts the people of the given list, counting every member of the cohorts.
+     *
+     * @param people the list of dynamic person objects
+     * @return the number of people
+     */
+    public static long getPopulation(final List<DynamicPerson> people) {
+        long population = 0;
+        for (final DynamicPerson person : people) {
+            population += person.getCohortSize();
+        }
+        return population;
+    }
+
+    /**
+     * Calculates the average money of the given people, weighting every cohort by its size.
+     *
+     * @param people the list of dynamic person objects
+     * @return the average money, or zero if there are no people
+     */
+    public static double getAverageMoney(final List<DynamicPerson> people) {
+        final long population = getPopulation(people);
+        if (population == 0) {
+            return 0;
+        }
+        double total = 0;
+        for (final DynamicPerson person : people) {
+            total += person.getMoney() * person.getCohortSize();
+        }
+        return total / population;
     }
 
     /**
@@ -43,7 +98,7 @@ public final class StatisticCalculator {
      * @return a list of doubles representing the congestion level for each
      *         transport line
      */
-    static List<Double> getTransportLinesCongestion(final List<TransportLine> lines) {
+    public static List<Double> getTransportLinesCongestion(final List<TransportLine> lines) {
         return lines.stream()
                 .map(TransportLine::getCongestion)
                 .collect(Collectors.toList());
@@ -55,9 +110,9 @@ public final class StatisticCalculator {
      * @param businesses the list of businesses
      * @return a list of integers representing the occupation percentage of each business
      */
-    static List<Integer> getBusinessesOccupation(final List<Business> businesses) {
+    public static List<Integer> getBusinessesOccupation(final List<Business> businesses) {
         return businesses.stream()
-                .map(business -> (int) ((double) business.getBusinessData().employees().size() 
+                .map(business -> (int) ((double) business.getHeadcount()
                 / business.getBusinessData().maxEmployees() * 100))
                 .collect(Collectors.toList());
     }
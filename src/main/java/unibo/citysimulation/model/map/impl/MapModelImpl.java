@@ -5,6 +5,7 @@ import java.awt.image.BufferedImage;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.awt.Color;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Collections;
 
@@ -13,6 +14,7 @@ import unibo.citysimulation.model.map.api.MapModel;
 import unibo.citysimulation.model.person.api.DynamicPerson;
 import unibo.citysimulation.model.person.api.StaticPerson.PersonState;
 import unibo.citysimulation.model.transport.api.TransportLine;
+import unibo.citysimulation.utilities.Coordinates;
 import unibo.citysimulation.utilities.Pair;
 
 /**
@@ -68,7 +70,7 @@ public final class MapModelImpl implements MapModel {
         final int maxX = coordinateHandler.getMaxX();
         final int maxY = coordinateHandler.getMaxY();
         return businesses.stream()
-            .map(business -> denormalizePosition(business.getBusinessData().position(), maxX, maxY))
+            .map(business -> denormalizePosition(business.getPackedPosition(), maxX, maxY))
             .collect(Collectors.toList());
     }
     /**
@@ -81,13 +83,15 @@ public final class MapModelImpl implements MapModel {
     public Map<String, Pair<Pair<Integer, Integer>, Color>> getPersonInfos(final List<DynamicPerson> people) {
         final int maxX = coordinateHandler.getMaxX();
         final int maxY = coordinateHandler.getMaxY();
-        return people.stream()
-                .filter(person -> person.getPosition().isPresent())
-                .collect(Collectors.toMap(
-                        person -> person.getPersonData().name(),
-                        person -> new Pair<>(
-                                denormalizePosition(person.getPosition().get(), maxX, maxY),
-                                getPersonColor(person))));
+        final Map<String, Pair<Pair<Integer, Integer>, Color>> infos = new HashMap<>(people.size() * 2);
+        for (final DynamicPerson person : people) {
+            final long position = person.getPackedPosition();
+            if (position != Coordinates.NONE) {
+                infos.put(person.getPersonData().name(),
+                        new Pair<>(denormalizePosition(position, maxX, maxY), getPersonColor(person)));
+            }
+        }
+        return infos;
     }
 
     /**
@@ -209,6 +213,20 @@ public final class MapModelImpl implements MapModel {
                 denormalizeCoordinate(position.getSecond(), maxY));
     }
 
+    /**
+     * Denormalizes a packed position based on the maximum x and y values.
+     *
+     * @param position the normalized position, packed in a long
+     * @param maxX the maximum x value
+     * @param maxY the maximum y value
+     * @return the denormalized position
+     */
+    private Pair<Integer, Integer> denormalizePosition(final long position, final int maxX, final int maxY) {
+        return new Pair<>(
+                denormalizeCoordinate(Coordinates.x(position), maxX),
+                denormalizeCoordinate(Coordinates.y(position), maxY));
+    }
+
     /**
      * Gets a copy of the map image.
      *
@@ -1,18 +1,56 @@
 package unibo.citysimulation.model.person.api;
 
 import java.time.LocalTime;
+import java.util.function.Consumer;
+
+import unibo.citysimulation.model.transport.api.WaitingRider;
 
 /**
  * Represents a dynamic person that can change state based on the current time and move in order to work.
+ * A person that finds its route congested waits in the queue of the congested line.
  */
-public interface DynamicPerson extends StaticPerson {
+public interface DynamicPerson extends StaticPerson, WaitingRider {
+
+    /**
+     * Checks if the state of the person has to change based on the current time.
+     * 
+     * @param currentTime the current time, in seconds of the day.
+     */
+    void checkState(int currentTime);
 
     /**
      * Checks if the state of the person has to change based on the current time.
      * 
      * @param currentTime the current time.
      */
-    void checkState(LocalTime currentTime);
+    default void checkState(final LocalTime currentTime) {
+        checkState(currentTime.toSecondOfDay());
+    }
+
+    /**
+     * @return the time of the next action of the person based on its state, in seconds of the day:
+     *         the departure to work, the departure to home or the arrival.
+     */
+    int getNextEventTime();
+
+    /**
+     * @return true if the person could not leave because of congestion and is waiting in a line queue.
+     */
+    boolean isLate();
+
+    /**
+     * @return the time of the last arrival of the person at work, in seconds of the day, or -1 if it never arrived.
+     */
+    int getWorkArrivalTime();
+
+    /**
+     * Lets the people waiting for the lines of the route of this person board them, in the order
+     * they started waiting, as long as the lines have room. Called after this person has arrived.
+     * 
+     * @param currentTime the current time, in seconds of the day.
+     * @param boarded     receives every person that boarded.
+     */
+    void admitWaitingRiders(int currentTime, Consumer<DynamicPerson> boarded);
 
     /**
      * @return the time when the person has to go to work, in seconds.
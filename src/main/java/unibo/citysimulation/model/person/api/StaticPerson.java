@@ -64,4 +64,24 @@ public interface StaticPerson {
      * @return the actual position of the person.
      */
     Optional<Pair<Integer, Integer>> getPosition();
+
+    /**
+     * Returns the actual position of the person without allocating.
+     *
+     * @return the position packed with {@link unibo.citysimulation.utilities.Coordinates#pack(int, int)},
+     *         or {@link unibo.citysimulation.utilities.Coordinates#NONE} while moving.
+     */
+    long getPackedPosition();
+
+    /**
+     * @return the id of the person: its row in the population table storing it, or a negative id, unique
+     *         among all these people, for a person created with a table of its own.
+     */
+    int getId();
+
+    /**
+     * @return the number of interchangeable people this person stands for, 1 unless the
+     *         simulation runs in cohort mode.
+     */
+    int getCohortSize();
 }
@@ -1,6 +1,7 @@
 package unibo.citysimulation.model.person.api;
 
 import unibo.citysimulation.model.transport.api.TransportLine;
+import unibo.citysimulation.model.zone.Route;
 
 import java.util.List;
 
@@ -36,4 +37,34 @@ public interface TransportStrategy {
      * @param lines the lines that are travelled.
      */
     void decrementPersonsInLine(List<TransportLine> lines);
+
+    /**
+     * Checks without allocating if any line of the given route has an high level of congestion.
+     * 
+     * @param route the route that we consider.
+     * @return true if the route has an high level of congestion.
+     */
+    boolean isCongested(Route route);
+
+    /**
+     * Finds without allocating the first line of the given route having an high level of congestion.
+     * 
+     * @param route the route that we consider.
+     * @return the position of the first congested line in the route, or -1 if no line is congested.
+     */
+    int firstCongestedLine(Route route);
+
+    /**
+     * Increments by the given count the number of person in all the lines of the route.
+     * @param route the route that is travelled.
+     * @param count the number of people travelling together.
+     */
+    void incrementPersonsInLine(Route route, int count);
+
+    /**
+     * Decrements by the given count the number of person in all the lines of the route.
+     * @param route the route that is travelled.
+     * @param count the number of people travelling together.
+     */
+    void decrementPersonsInLine(Route route, int count);
 }
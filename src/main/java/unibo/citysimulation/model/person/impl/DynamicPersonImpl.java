@@ -1,79 +1,153 @@
 package unibo.citysimulation.model.person.impl;
 
 import java.time.LocalTime;
-import java.util.List;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
 
 import unibo.citysimulation.model.person.api.DynamicPerson;
 import unibo.citysimulation.model.person.api.PersonData;
 import unibo.citysimulation.model.person.api.TransportStrategy;
+import unibo.citysimulation.model.transport.api.TransportLine;
+import unibo.citysimulation.model.zone.Route;
 import unibo.citysimulation.utilities.ConstantAndResourceLoader;
 
 /**
  * Represents a dynamic person that can change state based on the current time
- * and move in order to work.
+ * and move in order to work, as a view on a row of a {@link PopulationTable}.
  */
 public final class DynamicPersonImpl extends StaticPersonImpl implements DynamicPerson {
-    private int lastArrivingTime;
-    private PersonState lastDestination;
-    private boolean late;
-    private final Random random = new Random();
-    private final int businessBegin;
-    private final int businessEnd;
-    private final TransportStrategy transportStrategy;
+    private static final TransportStrategy TRANSPORT_STRATEGY = new TransportStrategyImpl();
 
     /**
-     * Constructs a new dynamic person with the given person data and money.
+     * Constructs a new dynamic person with the given person data and money, stored in a table of its own
+     * and with a negative id.
      * At the beginning, the person is at home.
      * 
      * @param personData the data of the person.
      * @param money      the money of the person.
      */
     public DynamicPersonImpl(final PersonData personData, final int money) {
-        super(personData, money);
-        this.lastDestination = PersonState.WORKING;
-        this.late = false;
-        this.businessBegin = calculateUpdatedTime(super.getPersonData().business().getBusinessData().opLocalTime());
-        this.businessEnd = calculateUpdatedTime(super.getPersonData().business().getBusinessData().clLocalTime());
-        this.transportStrategy = new TransportStrategyImpl();
+        this(PopulationTable.detached(), personData, money, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Adds a new dynamic person to the given table, drawing all its random choices
+     * from a generator with the given seed. At the beginning, the person is at home.
+     * 
+     * @param table      the table storing the person.
+     * @param personData the data of the person.
+     * @param money      the money of the person.
+     * @param seed       the seed of the random generator of the person.
+     */
+    public DynamicPersonImpl(final PopulationTable table, final PersonData personData, final int money,
+            final long seed) {
+        this(table, table.reserve(1), personData, money, seed);
+    }
+
+    /**
+     * Fills a row already reserved in the given table with a new dynamic person,
+     * drawing all its random choices from a generator with the given seed.
+     * 
+     * @param table      the table storing the person.
+     * @param row        the reserved row of the person.
+     * @param personData the data of the person.
+     * @param money      the money of the person.
+     * @param seed       the seed of the random generator of the person.
+     */
+    DynamicPersonImpl(final PopulationTable table, final int row, final PersonData personData, final int money,
+            final long seed) {
+        super(table, row, personData, money, seed);
+        table.setBusinessHours(getRow(),
+                calculateUpdatedTime(personData.business().getBusinessData().opLocalTime(), getRandom()),
+                calculateUpdatedTime(personData.business().getBusinessData().clLocalTime(), getRandom()));
+    }
+
+    /**
+     * Fills a row already reserved in the given table with a cohort of interchangeable people,
+     * who share the given business hours; a single person is a cohort of size one.
+     * 
+     * @param table         the table storing the cohort.
+     * @param row           the reserved row of the cohort.
+     * @param personData    the data of the people of the cohort.
+     * @param money         the money of each person of the cohort.
+     * @param seed          the seed of the random generator of the cohort.
+     * @param businessBegin the time when the cohort goes to work, in seconds.
+     * @param businessEnd   the time when the cohort goes back home, in seconds.
+     * @param size          the number of people in the cohort.
+     */
+    DynamicPersonImpl(final PopulationTable table, final int row, final PersonData personData, final double money,
+            final long seed, final int businessBegin, final int businessEnd, final int size) {
+        super(table, row, personData, money, seed);
+        table.setBusinessHours(getRow(), businessBegin, businessEnd);
+        table.setCohortSize(getRow(), size);
+    }
+
+    /**
+     * Constructs a view on a dynamic person already stored in the given table.
+     * 
+     * @param table the table storing the person.
+     * @param row   the row of the person.
+     */
+    public DynamicPersonImpl(final PopulationTable table, final int row) {
+        super(table, row);
     }
 
     private boolean shouldMove(final int currentTime, final int timeToMove, final int lineDuration) {
-        if (currentTime == timeToMove || late) {
-            if (transportStrategy.isCongested(List.of(getTransportLine()))) {
-                late = true;
-                return false;
-            }
+        return currentTime == timeToMove && !isLate() && depart(currentTime, lineDuration);
+    }
 
-            this.lastArrivingTime = transportStrategy.calculateArrivalTime(currentTime, lineDuration);
-            this.late = false;
-            return true;
+    /**
+     * Leaves now if no line of the route is congested, otherwise waits in the queue of the first congested line.
+     */
+    private boolean depart(final int currentTime, final int lineDuration) {
+        final Route route = getRoute();
+        final int congested = TRANSPORT_STRATEGY.firstCongestedLine(route);
+        if (congested >= 0) {
+            getTable().setLate(getRow(), true);
+            route.getLine(congested).addWaitingRider(this, currentTime);
+            return false;
         }
-        return false;
+        getTable().setArrivalTime(getRow(), TRANSPORT_STRATEGY.calculateArrivalTime(currentTime, lineDuration));
+        getTable().setLate(getRow(), false);
+        return true;
     }
 
-    private void handleWorkTransition(final LocalTime currentTime) {
-        if (shouldMove(currentTime.toSecondOfDay(), businessBegin - super.getTripDuration(), super.getTripDuration())) {
-            moveTo(PersonState.WORKING);
+    private void handleWorkTransition(final int currentTime) {
+        if (shouldMove(currentTime, getBusinessBegin() - super.getTripDuration(), super.getTripDuration())) {
+            moveTo(PersonState.WORKING, currentTime);
         }
     }
 
-    private void handleHomeTransition(final LocalTime currentTime) {
-        if (shouldMove(currentTime.toSecondOfDay(), businessEnd, super.getTripDuration())) {
-            moveTo(PersonState.AT_HOME);
+    private void handleHomeTransition(final int currentTime) {
+        if (shouldMove(currentTime, getBusinessEnd(), super.getTripDuration())) {
+            moveTo(PersonState.AT_HOME, currentTime);
         }
     }
 
-    private int calculateUpdatedTime(final LocalTime movingTime) {
+    /**
+     * @return the given time moved later by a random number of ticks.
+     */
+    static int calculateUpdatedTime(final LocalTime movingTime, final RandomGenerator random) {
         return movingTime.toSecondOfDay() + random.nextInt(ConstantAndResourceLoader.MAX_MOVING_TIME_VARIATION)
                 * ConstantAndResourceLoader.MINUTES_IN_A_SECOND * ConstantAndResourceLoader.SECONDS_IN_A_MINUTE;
     }
 
-    private void handleArrival(final LocalTime currentTime) {
-        if (currentTime.toSecondOfDay() == this.lastArrivingTime) {
-            this.setState(this.lastDestination);
-            updatePosition();
-            transportStrategy.decrementPersonsInLine(List.of(getTransportLine()));
+    private void handleArrival(final int currentTime) {
+        if (currentTime == getTable().getArrivalTime(getRow())) {
+            arrive(getTable().getLastDestination(getRow()), currentTime);
+            TRANSPORT_STRATEGY.decrementPersonsInLine(getRoute(), getCohortSize());
+        }
+    }
+
+    /**
+     * Reaches the destination, telling the business when the person arrives at work.
+     */
+    private void arrive(final PersonState destination, final int currentTime) {
+        this.setState(destination);
+        if (destination == PersonState.WORKING) {
+            getTable().setWorkArrivalTime(getRow(), currentTime);
+            getPersonData().business().recordArrival(this, currentTime);
         }
     }
 
@@ -83,10 +157,10 @@ public final class DynamicPersonImpl extends StaticPersonImpl implements Dynamic
      * If the person is working, it checks if it is time to go home.
      * If the person is at home, it checks if it is time to go to work.
      * 
-     * @param currentTime the current time.
+     * @param currentTime the current time, in seconds of the day.
      */
     @Override
-    public void checkState(final LocalTime currentTime) {
+    public void checkState(final int currentTime) {
         switch (super.getState()) {
             case MOVING -> handleArrival(currentTime);
             case WORKING -> handleHomeTransition(currentTime);
@@ -95,15 +169,76 @@ public final class DynamicPersonImpl extends StaticPersonImpl implements Dynamic
         }
     }
 
-    private void moveTo(final PersonState newState) {
+    private void moveTo(final PersonState newState, final int currentTime) {
         if (super.getTripDuration() == 0) {
-            this.setState(newState);
+            arrive(newState, currentTime);
         } else {
             this.setState(PersonState.MOVING);
-            transportStrategy.incrementPersonsInLine(List.of(getTransportLine()));
+            TRANSPORT_STRATEGY.incrementPersonsInLine(getRoute(), getCohortSize());
+        }
+        getTable().setLastDestination(getRow(), newState);
+    }
+
+    /**
+     * Boards the route after waiting in a line queue, heading to work or home depending on where the person is.
+     * 
+     * @param currentTime the current time, in seconds of the day.
+     * @return true if the person boarded, false if it is waiting in the queue of another congested line.
+     */
+    @Override
+    public boolean board(final int currentTime) {
+        if (!depart(currentTime, super.getTripDuration())) {
+            return false;
+        }
+        moveTo(super.getState() == PersonState.AT_HOME ? PersonState.WORKING : PersonState.AT_HOME, currentTime);
+        return true;
+    }
+
+    /**
+     * Lets the people waiting for the lines of the route of this person board them.
+     * 
+     * @param currentTime the current time, in seconds of the day.
+     * @param boarded     receives every person that boarded.
+     */
+    @Override
+    public void admitWaitingRiders(final int currentTime, final Consumer<DynamicPerson> boarded) {
+        final Route route = getRoute();
+        for (int i = 0; i < route.size(); i++) {
+            final TransportLine line = route.getLine(i);
+            if (line.getWaitingPeople() > 0) {
+                // only people join the queues of the lines
+                line.admitWaitingRiders(currentTime, rider -> boarded.accept((DynamicPerson) rider));
+            }
         }
-        this.lastDestination = newState;
-        this.updatePosition();
+    }
+
+    /**
+     * @return the time of the next action of the person based on its state, in seconds of the day.
+     */
+    @Override
+    public int getNextEventTime() {
+        return switch (super.getState()) {
+            case MOVING -> getTable().getArrivalTime(getRow());
+            case WORKING -> getBusinessEnd();
+            case AT_HOME -> Math.floorMod(getBusinessBegin() - super.getTripDuration(),
+                    ConstantAndResourceLoader.SECONDS_IN_A_DAY);
+        };
+    }
+
+    /**
+     * @return true if the person is waiting for a congested line to leave.
+     */
+    @Override
+    public boolean isLate() {
+        return getTable().isLate(getRow());
+    }
+
+    /**
+     * @return the time of the last arrival of the person at work, in seconds of the day, or -1 if it never arrived.
+     */
+    @Override
+    public int getWorkArrivalTime() {
+        return getTable().getWorkArrivalTime(getRow());
     }
 
     /**
@@ -111,7 +246,7 @@ public final class DynamicPersonImpl extends StaticPersonImpl implements Dynamic
      */
     @Override
     public int getBusinessBegin() {
-        return businessBegin;
+        return getTable().getBusinessBegin(getRow());
     }
 
     /**
@@ -119,6 +254,6 @@ public final class DynamicPersonImpl extends StaticPersonImpl implements Dynamic
      */
     @Override
     public int getBusinessEnd() {
-        return businessEnd;
+        return getTable().getBusinessEnd(getRow());
     }
 }
@@ -1,6 +1,8 @@
 package unibo.citysimulation.model.person.impl;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import unibo.citysimulation.model.business.impl.Business;
+import unibo.citysimulation.model.business.impl.Business.BusinessData;
 import unibo.citysimulation.model.business.impl.Employee;
 import unibo.citysimulation.model.person.api.DynamicPerson;
 import unibo.citysimulation.model.person.api.PersonData;
@@ -8,20 +10,63 @@ import unibo.citysimulation.model.person.api.PersonFactory;
 import unibo.citysimulation.model.zone.Zone;
 import unibo.citysimulation.utilities.ConstantAndResourceLoader;
 import unibo.citysimulation.utilities.Pair;
+import unibo.citysimulation.utilities.RandomStreams;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * The PersonFactory class is responsible for creating instances of
  * DynamicPerson objects.
  */
 public final class PersonFactoryImpl implements PersonFactory {
-    private static Random random = new Random();
+    private static final int GROUP_ID_SHIFT = 32;
+    private final RandomStreams streams;
+    private final boolean cohorts;
+    private PopulationTable populationTable;
 
     /**
-     * Creates all the people for the simulation.
+     * Constructs a factory drawing from randomly seeded streams.
+     */
+    public PersonFactoryImpl() {
+        this(new RandomStreams(ThreadLocalRandom.current().nextLong()));
+    }
+
+    /**
+     * Constructs a factory drawing from the given streams: every person gets its own stream,
+     * identified by its group and its position in the group.
+     *
+     * @param streams the random streams of the simulation.
+     */
+    public PersonFactoryImpl(final RandomStreams streams) {
+        this(streams, false);
+    }
+
+    /**
+     * Constructs a factory drawing from the given streams, optionally in cohort mode.
+     * In cohort mode {@link #createAllPeople} stores the interchangeable residents of a zone as a single
+     * counted cohort: the ones drawing the same business and the same business hours, with ages accepted by
+     * the same businesses, and either all hired or all not hired by their business.
+     *
+     * @param streams the random streams of the simulation.
+     * @param cohorts true to group interchangeable people in cohorts.
+     */
+    public PersonFactoryImpl(final RandomStreams streams, final boolean cohorts) {
+        this.streams = streams;
+        this.cohorts = cohorts;
+    }
+
+    /**
+     * Creates all the people for the simulation. The groups of the zones are created in parallel,
+     * each in its own range of rows of a shared table, then the people are hired in zone order,
+     * so that the result does not depend on the scheduling of the threads.
      *
      * @param numberOfPeople The total number of people to create, given in input.
      * @param zones          The list of available zones.
@@ -31,14 +76,25 @@ public final class PersonFactoryImpl implements PersonFactory {
     @Override
     public List<List<DynamicPerson>> createAllPeople(final int numberOfPeople, final List<Zone> zones,
             final List<Business> businesses) {
-        return zones.stream()
-                .map(zone -> createGroupOfPeople(
-                        zones.indexOf(zone),
-                        (int) (numberOfPeople * (zone.personPercents() / 100.0)),
-                        zone.wellfareMinMax(),
-                        businesses,
-                        zone))
+        final int[] groupSizes = zones.stream()
+                .mapToInt(zone -> (int) (numberOfPeople * (zone.personPercents() / 100.0)))
+                .toArray();
+        if (cohorts) {
+            return createAllCohorts(groupSizes, zones, businesses);
+        }
+        final PopulationTable table = new PopulationTable(IntStream.of(groupSizes).sum());
+        populationTable = table;
+        final int[] firstRows = new int[zones.size()];
+        for (int i = 0; i < zones.size(); i++) {
+            firstRows[i] = table.reserve(groupSizes[i]);
+        }
+        final List<List<DynamicPerson>> groups = IntStream.range(0, zones.size())
+                .parallel()
+                .mapToObj(i -> createPeople(table, firstRows[i], i, groupSizes[i], zones.get(i).wellfareMinMax(),
+                        eligibleBusinesses(businesses, zones.get(i)), zones.get(i)))
                 .collect(Collectors.toList());
+        groups.forEach(PersonFactoryImpl::hireAll);
+        return groups;
     }
 
     /**
@@ -56,24 +112,159 @@ public final class PersonFactoryImpl implements PersonFactory {
     public List<DynamicPerson> createGroupOfPeople(final int groupCounter, final int numberOfPeople,
             final Pair<Integer, Integer> moneyMinMax,
             final List<Business> businesses, final Zone residenceZone) {
-        final List<DynamicPerson> people = new ArrayList<>();
+        final PopulationTable table = new PopulationTable(numberOfPeople);
+        final List<DynamicPerson> people = createPeople(table, table.reserve(numberOfPeople), groupCounter,
+                numberOfPeople, moneyMinMax, eligibleBusinesses(businesses, residenceZone), residenceZone);
+        hireAll(people);
+        return people;
+    }
+
+    /**
+     * @return the businesses where the people living in the given zone can work, that is
+     *         the ones outside of it.
+     */
+    private static Business[] eligibleBusinesses(final List<Business> businesses, final Zone residenceZone) {
+        return businesses.stream()
+                .filter(business -> !business.getBusinessData().zone().equals(residenceZone))
+                .toArray(Business[]::new);
+    }
+
+    private List<DynamicPerson> createPeople(final PopulationTable table, final int firstRow, final int groupCounter,
+            final int numberOfPeople, final Pair<Integer, Integer> moneyMinMax,
+            final Business[] eligibleBusinesses, final Zone residenceZone) {
+        final List<DynamicPerson> people = new ArrayList<>(numberOfPeople);
         for (int i = 0; i < numberOfPeople; i++) {
-            final List<Business> eligibleBusinesses = businesses.stream()
-                    .filter(business -> !business.getBusinessData().zone().equals(residenceZone))
-                    .collect(Collectors.toList());
-            final Business business = eligibleBusinesses.get(random.nextInt(eligibleBusinesses.size()));
-            final DynamicPerson person = createPerson(
-                    "Person" + groupCounter + i,
-                    random.nextInt(ConstantAndResourceLoader.MAX_RANDOM_AGE) + ConstantAndResourceLoader.MIN_AGE,
-                    business,
-                    residenceZone,
-                    random.nextInt(moneyMinMax.getSecond() - moneyMinMax.getFirst()) + moneyMinMax.getFirst());
-                business.hire(new Employee(person, business.getBusinessData()));
-            people.add(person);
+            final Draw draw = draw(groupCounter, i, moneyMinMax, eligibleBusinesses);
+            people.add(new DynamicPersonImpl(table, firstRow + i,
+                    new PersonData(draw.name(), draw.age(), draw.business(), residenceZone), draw.money(),
+                    draw.seed(), draw.businessBegin(), draw.businessEnd(), 1));
         }
         return people;
     }
 
+    /**
+     * Draws the business, age, money, seed and business hours of a person from its own stream,
+     * so a person has the same hours whether it is stored alone or in a cohort.
+     */
+    private Draw draw(final int groupCounter, final int i, final Pair<Integer, Integer> moneyMinMax,
+            final Business[] eligibleBusinesses) {
+        final SplittableRandom random = streams.stream(RandomStreams.Purpose.PERSON,
+                ((long) groupCounter << GROUP_ID_SHIFT) | i);
+        final Business business = eligibleBusinesses[random.nextInt(eligibleBusinesses.length)];
+        final int age = random.nextInt(ConstantAndResourceLoader.MAX_RANDOM_AGE) + ConstantAndResourceLoader.MIN_AGE;
+        final int money = random.nextInt(moneyMinMax.getSecond() - moneyMinMax.getFirst()) + moneyMinMax.getFirst();
+        final long seed = random.nextLong();
+        final BusinessData data = business.getBusinessData();
+        return new Draw("Person" + groupCounter + i, age, business, money, seed,
+                DynamicPersonImpl.calculateUpdatedTime(data.opLocalTime(), random),
+                DynamicPersonImpl.calculateUpdatedTime(data.clLocalTime(), random));
+    }
+
+    /**
+     * Creates the people in cohort mode: the people are drawn exactly as one by one, then every person
+     * joins the cohort of its zone with the same business, business hours and age band, hired or not hired
+     * depending on whether the business still has room for it and accepts its age. Businesses fill up in
+     * zone and person order, as in {@link #hireAll}.
+     */
+    private List<List<DynamicPerson>> createAllCohorts(final int[] groupSizes, final List<Zone> zones,
+            final List<Business> businesses) {
+        final List<List<Draw>> draws = IntStream.range(0, zones.size())
+                .parallel()
+                .mapToObj(i -> {
+                    final Business[] eligibleBusinesses = eligibleBusinesses(businesses, zones.get(i));
+                    return IntStream.range(0, groupSizes[i])
+                            .mapToObj(j -> draw(i, j, zones.get(i).wellfareMinMax(), eligibleBusinesses))
+                            .collect(Collectors.toList());
+                })
+                .collect(Collectors.toList());
+
+        final Map<Business, Integer> freeSpots = new IdentityHashMap<>();
+        for (final Business business : businesses) {
+            freeSpots.put(business, business.getBusinessData().maxEmployees() - business.getHeadcount());
+        }
+        final int[] ageLimits = ageLimits(businesses);
+        final List<List<Cohort>> groups = new ArrayList<>(zones.size());
+        for (final List<Draw> group : draws) {
+            final Map<CohortKey, Cohort> cohortsOfGroup = new LinkedHashMap<>();
+            for (final Draw draw : group) {
+                final Business business = draw.business();
+                final boolean hired = draw.age() >= business.getBusinessData().minAge()
+                        && draw.age() <= business.getBusinessData().maxAge()
+                        && freeSpots.get(business) > 0;
+                if (hired) {
+                    freeSpots.merge(business, -1, Integer::sum);
+                }
+                final CohortKey key = new CohortKey(business, draw.businessBegin(), draw.businessEnd(),
+                        ageBand(ageLimits, draw.age()), hired);
+                cohortsOfGroup.computeIfAbsent(key, k -> new Cohort(draw)).add(draw);
+            }
+            groups.add(new ArrayList<>(cohortsOfGroup.values()));
+        }
+
+        final PopulationTable table = new PopulationTable(groups.stream().mapToInt(List::size).sum());
+        populationTable = table;
+        final int[] firstRows = new int[zones.size()];
+        for (int i = 0; i < zones.size(); i++) {
+            firstRows[i] = table.reserve(groups.get(i).size());
+        }
+        final List<List<DynamicPerson>> people = IntStream.range(0, zones.size())
+                .parallel()
+                .mapToObj(i -> {
+                    final List<DynamicPerson> group = new ArrayList<>(groups.get(i).size());
+                    for (int j = 0; j < groups.get(i).size(); j++) {
+                        group.add(groups.get(i).get(j).create(table, firstRows[i] + j, zones.get(i)));
+                    }
+                    return group;
+                })
+                .collect(Collectors.toList());
+        people.forEach(PersonFactoryImpl::hireAll);
+        return people;
+    }
+
+    /**
+     * Returns the ages where the minimum or the maximum age of some business starts or stops accepting people,
+     * sorted: people with ages between two consecutive limits are accepted by the same businesses.
+     */
+    private static int[] ageLimits(final List<Business> businesses) {
+        return businesses.stream()
+                .flatMapToInt(business -> IntStream.of(business.getBusinessData().minAge(),
+                        business.getBusinessData().maxAge() + 1))
+                .distinct()
+                .sorted()
+                .toArray();
+    }
+
+    /**
+     * @return the number of age limits not greater than the given age.
+     */
+    private static int ageBand(final int[] ageLimits, final int age) {
+        final int index = Arrays.binarySearch(ageLimits, age);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    /**
+     * Returns the table storing the people created by the last call of {@link #createAllPeople}.
+     *
+     * @return the table of the whole population
+     * @throws IllegalStateException if no population has been created yet
+     */
+    @SuppressFBWarnings(value = "EI", justification = """
+        The table is shared with the payroll on purpose, to credit the wages in bulk.
+        """)
+    public PopulationTable getPopulationTable() {
+        if (populationTable == null) {
+            throw new IllegalStateException("No population has been created yet.");
+        }
+        return populationTable;
+    }
+
+    private static void hireAll(final List<DynamicPerson> people) {
+        for (final DynamicPerson person : people) {
+            final Business business = person.getPersonData().business();
+            business.hire(new Employee(person, business.getBusinessData()));
+        }
+    }
+
     /**
      * Creates a single person.
      * 
@@ -90,4 +281,43 @@ public final class PersonFactoryImpl implements PersonFactory {
             final Zone residenceZone, final int money) {
         return new DynamicPersonImpl(new PersonData(name, age, business, residenceZone), money);
     }
+
+    /**
+     * The random choices made for a person.
+     */
+    private record Draw(String name, int age, Business business, int money, long seed, int businessBegin,
+            int businessEnd) {
+    }
+
+    /**
+     * The attributes shared by the people of a cohort: every business accepts either all the ages of
+     * the age band or none of them.
+     */
+    private record CohortKey(Business business, int businessBegin, int businessEnd, int ageBand, boolean hired) {
+    }
+
+    /**
+     * A cohort being formed, taking name, age and seed from its first member and the average money of all.
+     * The age of the first member stands for the ages of all the members, which are in the same age band.
+     */
+    private static final class Cohort {
+        private final Draw first;
+        private long money;
+        private int size;
+
+        Cohort(final Draw first) {
+            this.first = first;
+        }
+
+        void add(final Draw draw) {
+            money += draw.money();
+            size++;
+        }
+
+        DynamicPerson create(final PopulationTable table, final int row, final Zone residenceZone) {
+            return new DynamicPersonImpl(table, row,
+                    new PersonData(first.name(), first.age(), first.business(), residenceZone),
+                    (double) money / size, first.seed(), first.businessBegin(), first.businessEnd(), size);
+        }
+    }
 }
@@ -0,0 +1,88 @@
+package unibo.citysimulation.model.person.impl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+import unibo.citysimulation.model.person.api.StaticPerson.PersonState;
+import unibo.citysimulation.model.zone.Zone;
+
+/**
+ * The number of people in every state, in the whole city and in every residence zone, counting every
+ * member of the cohorts. The counts are not computed by visiting the people: the {@link PopulationTable}
+ * updates them on every change of state or of the size of a cohort, so reading them takes constant time.
+ * The counters are striped, so people updated by different threads at the same time do not contend.
+ */
+public final class PersonStateCounters {
+    private static final int STATES = PersonState.values().length;
+    private final LongAdder[] total = newCounters();
+    private final List<LongAdder[]> byZone = new CopyOnWriteArrayList<>();
+    private final Map<Zone, Integer> zoneIndexes = new ConcurrentHashMap<>();
+
+    /**
+     * @param state a state of the people
+     * @return the number of people in the state
+     */
+    public long getCount(final PersonState state) {
+        return total[state.ordinal()].sum();
+    }
+
+    /**
+     * @param zone  the residence zone of the people
+     * @param state a state of the people
+     * @return the number of people living in the zone that are in the state
+     */
+    public long getCount(final Zone zone, final PersonState state) {
+        final Integer index = zoneIndexes.get(zone);
+        return index == null ? 0 : byZone.get(index)[state.ordinal()].sum();
+    }
+
+    /**
+     * @return the number of people counted, in any state
+     */
+    public long getPopulation() {
+        long population = 0;
+        for (final LongAdder counter : total) {
+            population += counter.sum();
+        }
+        return population;
+    }
+
+    /**
+     * Returns the index of the counters of a residence zone, adding them the first time the zone is seen.
+     * Registrations are serialized, so every zone gets its own index; the counters are added to the list
+     * before the index is published in the map, so readers need no lock.
+     */
+    synchronized int indexOf(final Zone zone) {
+        return zoneIndexes.computeIfAbsent(zone, z -> {
+            byZone.add(newCounters());
+            return byZone.size() - 1;
+        });
+    }
+
+    /**
+     * Adds the given number of people to a state of a zone.
+     */
+    void add(final int zone, final PersonState state, final int people) {
+        total[state.ordinal()].add(people);
+        byZone.get(zone)[state.ordinal()].add(people);
+    }
+
+    /**
+     * Moves the given number of people of a zone from a state to another one.
+     */
+    void move(final int zone, final PersonState from, final PersonState to, final int people) {
+        add(zone, from, -people);
+        add(zone, to, people);
+    }
+
+    private static LongAdder[] newCounters() {
+        final LongAdder[] counters = new LongAdder[STATES];
+        for (int i = 0; i < STATES; i++) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
+    }
+}
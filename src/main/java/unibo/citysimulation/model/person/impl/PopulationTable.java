@@ -0,0 +1,346 @@
+package unibo.citysimulation.model.person.impl;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.random.RandomGenerator;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import unibo.citysimulation.model.person.api.PersonData;
+import unibo.citysimulation.model.person.api.StaticPerson;
+import unibo.citysimulation.model.person.api.StaticPerson.PersonState;
+import unibo.citysimulation.model.zone.Route;
+import unibo.citysimulation.model.zone.ZoneTable;
+import unibo.citysimulation.utilities.ConstantAndResourceLoader;
+import unibo.citysimulation.utilities.Coordinates;
+import unibo.citysimulation.utilities.RandomStreams;
+
+/**
+ * Column storage for the people of the simulation. Every attribute of a person is an element of
+ * a primitive array, at the row of that person; {@link StaticPersonImpl} and {@link DynamicPersonImpl}
+ * are lightweight views on a row. The transport paths are shared by all the people using them,
+ * and the random generator of every person is a single long. Positions are not stored: they are
+ * derived on demand from the state of the person, its home and, while working, the position of its
+ * business moved by a deviation fixed by the seed of the person. A row can also stand for a cohort of
+ * interchangeable people, who move, travel and get paid together; its money is the money of each member.
+ * The number of people in every state is kept by the table in {@link PersonStateCounters}.
+ *
+ * <p>
+ * The arrays are allocated once with the capacity given at construction. Different rows can be
+ * updated by different threads at the same time.
+ * </p>
+ */
+public final class PopulationTable {
+    private static final PersonState[] STATES = PersonState.values();
+    private static final AtomicInteger DETACHED_IDS = new AtomicInteger();
+
+    private final PersonData[] personData;
+    private final byte[] state;
+    private final int[] homeX;
+    private final int[] homeY;
+    private final double[] money;
+    private final int[] businessBegin;
+    private final int[] businessEnd;
+    private final int[] route;
+    private final int[] arrivalTime;
+    private final int[] workArrivalTime;
+    private final byte[] lastDestination;
+    private final boolean[] late;
+    private final int[] cohortSize;
+    private final int[] residence;
+    private final long[] randomState;
+    private final long[] positionSeed;
+    private final List<Route> routes = new ArrayList<>();
+    private final Map<Route, Integer> routeIds = new IdentityHashMap<>();
+    private final PersonStateCounters stateCounters = new PersonStateCounters();
+    private final int firstId;
+    private int size;
+
+    /**
+     * Constructs an empty table able to hold the given number of people.
+     *
+     * @param capacity the maximum number of people
+     */
+    public PopulationTable(final int capacity) {
+        this(capacity, 0);
+    }
+
+    private PopulationTable(final int capacity, final int firstId) {
+        this.firstId = firstId;
+        this.personData = new PersonData[capacity];
+        this.state = new byte[capacity];
+        this.homeX = new int[capacity];
+        this.homeY = new int[capacity];
+        this.money = new double[capacity];
+        this.businessBegin = new int[capacity];
+        this.businessEnd = new int[capacity];
+        this.route = new int[capacity];
+        this.arrivalTime = new int[capacity];
+        this.workArrivalTime = new int[capacity];
+        this.lastDestination = new byte[capacity];
+        this.late = new boolean[capacity];
+        this.cohortSize = new int[capacity];
+        this.residence = new int[capacity];
+        this.randomState = new long[capacity];
+        this.positionSeed = new long[capacity];
+    }
+
+    /**
+     * Creates a table holding a single person apart from the population. The id of the person is negative
+     * and different from the ids of all the other people stored this way, so it is never taken for a row
+     * of another table.
+     *
+     * @return the new table
+     */
+    static PopulationTable detached() {
+        return new PopulationTable(1, DETACHED_IDS.decrementAndGet());
+    }
+
+    /**
+     * Returns the number of people in every state, kept up to date by the table.
+     *
+     * @return the state counters of the people of the table.
+     */
+    @SuppressFBWarnings(value = "EI", justification = """
+        The counters are shared with the statistics on purpose, to read them while the table updates them.
+        """)
+    public PersonStateCounters getStateCounters() {
+        return stateCounters;
+    }
+
+    /**
+     * @return the number of people in the table.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the maximum number of people the table can hold.
+     */
+    public int capacity() {
+        return personData.length;
+    }
+
+    /**
+     * Adds a person at home, with the path from its residence zone to its business.
+     *
+     * @param data       the data of the person
+     * @param startMoney the money of the person
+     * @param seed       the seed of the random generator of the person
+     * @return the row of the new person
+     */
+    int addRow(final PersonData data, final double startMoney, final long seed) {
+        final int row = reserve(1);
+        fillRow(row, data, startMoney, seed);
+        return row;
+    }
+
+    /**
+     * Reserves the given number of consecutive rows, to be filled later with {@link #fillRow}.
+     * Distinct reserved rows can be filled concurrently by different threads.
+     *
+     * @param count the number of rows to reserve
+     * @return the first reserved row
+     */
+    int reserve(final int count) {
+        if (size + count > capacity()) {
+            throw new IllegalStateException("The population table is full: " + capacity() + " people");
+        }
+        final int first = size;
+        size += count;
+        return first;
+    }
+
+    /**
+     * Fills a reserved row with a person at home, with the path from its residence zone to its business.
+     *
+     * @param row        the reserved row
+     * @param data       the data of the person
+     * @param startMoney the money of the person
+     * @param seed       the seed of the random generator of the person
+     */
+    void fillRow(final int row, final PersonData data, final double startMoney, final long seed) {
+        personData[row] = data;
+        money[row] = startMoney;
+        randomState[row] = seed;
+        positionSeed[row] = RandomStreams.mix(seed);
+        cohortSize[row] = 1;
+        workArrivalTime[row] = -1;
+        state[row] = (byte) PersonState.AT_HOME.ordinal();
+        residence[row] = stateCounters.indexOf(data.residenceZone());
+        stateCounters.add(residence[row], PersonState.AT_HOME, 1);
+        lastDestination[row] = (byte) PersonState.WORKING.ordinal();
+        route[row] = routeOf(ZoneTable.getInstance().getRoute(data.residenceZone(),
+                data.business().getBusinessData().zone()));
+    }
+
+    private synchronized int routeOf(final Route sharedRoute) {
+        if (sharedRoute == null) {
+            throw new IllegalStateException("No transport line found between the given zones.");
+        }
+        return routeIds.computeIfAbsent(sharedRoute, r -> {
+            routes.add(r);
+            return routes.size() - 1;
+        });
+    }
+
+    /**
+     * Returns the random generator of a person; its numbers are drawn from the state stored in the table,
+     * so it must be used by one thread at a time.
+     */
+    RandomGenerator random(final int row) {
+        return () -> {
+            randomState[row] = RandomStreams.nextState(randomState[row]);
+            return RandomStreams.mix(randomState[row]);
+        };
+    }
+
+    /**
+     * @param person a person
+     * @return true if the person is stored in this table
+     */
+    public boolean stores(final StaticPerson person) {
+        return person instanceof StaticPersonImpl view && view.getTable() == this;
+    }
+
+    int getId(final int row) {
+        return firstId + row;
+    }
+
+    PersonData getPersonData(final int row) {
+        return personData[row];
+    }
+
+    PersonState getState(final int row) {
+        return STATES[state[row]];
+    }
+
+    void setState(final int row, final PersonState newState) {
+        final PersonState oldState = getState(row);
+        if (oldState != newState) {
+            state[row] = (byte) newState.ordinal();
+            stateCounters.move(residence[row], oldState, newState, cohortSize[row]);
+        }
+    }
+
+    /**
+     * Derives the position of a person from its state: its home, its business moved by the deviation
+     * of the person, or {@link Coordinates#NONE} while moving.
+     */
+    long getPackedPosition(final int row) {
+        return switch (getState(row)) {
+            case AT_HOME -> Coordinates.pack(homeX[row], homeY[row]);
+            case WORKING -> {
+                final long business = personData[row].business().getPackedPosition();
+                final long deviation = RandomStreams.mix(positionSeed[row] + business);
+                yield Coordinates.pack(Coordinates.x(business) + deviationOf(deviation >>> Integer.SIZE),
+                        Coordinates.y(business) + deviationOf(deviation & 0xFFFF_FFFFL));
+            }
+            case MOVING -> Coordinates.NONE;
+        };
+    }
+
+    private static int deviationOf(final long bits) {
+        return (int) (bits * ConstantAndResourceLoader.MAX_DEVIATION_RANGE >>> Integer.SIZE)
+                - ConstantAndResourceLoader.MAX_DEVIATION_OFFSET;
+    }
+
+    int getHomeX(final int row) {
+        return homeX[row];
+    }
+
+    int getHomeY(final int row) {
+        return homeY[row];
+    }
+
+    void setHome(final int row, final int x, final int y) {
+        homeX[row] = x;
+        homeY[row] = y;
+    }
+
+    double getMoney(final int row) {
+        return money[row];
+    }
+
+    void addMoney(final int row, final double amount) {
+        money[row] += amount;
+    }
+
+    /**
+     * Adds the same amount of money to many people in one pass over the money column.
+     *
+     * @param rows   the rows of the people to credit
+     * @param count  the number of rows to use, from the start of the array
+     * @param amount the money to add to each of them
+     */
+    public void credit(final int[] rows, final int count, final double amount) {
+        for (int i = 0; i < count; i++) {
+            money[rows[i]] += amount;
+        }
+    }
+
+    int getBusinessBegin(final int row) {
+        return businessBegin[row];
+    }
+
+    int getBusinessEnd(final int row) {
+        return businessEnd[row];
+    }
+
+    void setBusinessHours(final int row, final int begin, final int end) {
+        businessBegin[row] = begin;
+        businessEnd[row] = end;
+    }
+
+    Route getRoute(final int row) {
+        return routes.get(route[row]);
+    }
+
+    int getTripDuration(final int row) {
+        return routes.get(route[row]).getDuration();
+    }
+
+    int getArrivalTime(final int row) {
+        return arrivalTime[row];
+    }
+
+    void setArrivalTime(final int row, final int time) {
+        arrivalTime[row] = time;
+    }
+
+    int getWorkArrivalTime(final int row) {
+        return workArrivalTime[row];
+    }
+
+    void setWorkArrivalTime(final int row, final int time) {
+        workArrivalTime[row] = time;
+    }
+
+    PersonState getLastDestination(final int row) {
+        return STATES[lastDestination[row]];
+    }
+
+    void setLastDestination(final int row, final PersonState destination) {
+        lastDestination[row] = (byte) destination.ordinal();
+    }
+
+    boolean isLate(final int row) {
+        return late[row];
+    }
+
+    void setLate(final int row, final boolean isLate) {
+        late[row] = isLate;
+    }
+
+    int getCohortSize(final int row) {
+        return cohortSize[row];
+    }
+
+    void setCohortSize(final int row, final int size) {
+        stateCounters.add(residence[row], getState(row), size - cohortSize[row]);
+        cohortSize[row] = size;
+    }
+}
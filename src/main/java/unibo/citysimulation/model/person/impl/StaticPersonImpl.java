@@ -1,42 +1,92 @@
 package unibo.citysimulation.model.person.impl;
 
 import java.util.Optional;
-import java.util.Arrays;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import unibo.citysimulation.model.person.api.PersonData;
 import unibo.citysimulation.model.person.api.StaticPerson;
 import unibo.citysimulation.model.transport.api.TransportLine;
-import unibo.citysimulation.model.zone.ZoneTable;
-import unibo.citysimulation.utilities.ConstantAndResourceLoader;
+import unibo.citysimulation.model.zone.Route;
+import unibo.citysimulation.utilities.Coordinates;
 import unibo.citysimulation.utilities.Pair;
 
 /**
- * Represents a static person in the city simulation.
+ * Represents a static person in the city simulation, as a view on a row of a {@link PopulationTable}.
  */
+@SuppressFBWarnings(value = "EI2", justification = """
+    The view shares the table of the whole population on purpose.
+    """)
 public class StaticPersonImpl implements StaticPerson {
-    private double money;
-    private Optional<Pair<Integer, Integer>> position;
-    private final PersonData personData;
-    private PersonState state;
-    private final Pair<Integer, Integer> homePosition;
-    private TransportLine[] transportLine;
-    private int tripDuration;
-    private static final Random RANDOM = new Random();
+    private final PopulationTable table;
+    private final int row;
 
     /**
-     * Constructs a new static person with the given person data and money.
+     * Constructs a new static person with the given person data and money, stored in a table of its own
+     * and with a negative id.
      * 
      * @param personData the data of the person.
      * @param money      the money of the person.
      */
     public StaticPersonImpl(final PersonData personData, final double money) {
-        this.personData = personData;
-        this.money = money;
-        this.state = PersonState.AT_HOME;
-        this.homePosition = personData.residenceZone().getRandomPosition();
-        this.position = Optional.of(homePosition);
-        this.calculateTrip();
+        this(PopulationTable.detached(), personData, money, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Adds a new static person at home to the given table.
+     * 
+     * @param table      the table storing the person.
+     * @param personData the data of the person.
+     * @param money      the money of the person.
+     * @param seed       the seed of the random generator of the person.
+     */
+    protected StaticPersonImpl(final PopulationTable table, final PersonData personData, final double money,
+            final long seed) {
+        this(table, table.reserve(1), personData, money, seed);
+    }
+
+    /**
+     * Fills a row already reserved in the given table with a new static person at home.
+     * 
+     * @param table      the table storing the person.
+     * @param row        the reserved row of the person.
+     * @param personData the data of the person.
+     * @param money      the money of the person.
+     * @param seed       the seed of the random generator of the person.
+     */
+    protected StaticPersonImpl(final PopulationTable table, final int row, final PersonData personData,
+            final double money, final long seed) {
+        this.table = table;
+        this.row = row;
+        table.fillRow(row, personData, money, seed);
+        final Pair<Integer, Integer> home = personData.residenceZone().getRandomPosition(getRandom());
+        table.setHome(row, home.getFirst(), home.getSecond());
+    }
+
+    /**
+     * Constructs a view on a person already stored in the given table.
+     * 
+     * @param table the table storing the person.
+     * @param row   the row of the person.
+     */
+    public StaticPersonImpl(final PopulationTable table, final int row) {
+        this.table = table;
+        this.row = row;
+    }
+
+    /**
+     * @return the table storing this person.
+     */
+    protected PopulationTable getTable() {
+        return table;
+    }
+
+    /**
+     * @return the row of this person in its table.
+     */
+    protected int getRow() {
+        return row;
     }
 
     /**
@@ -44,15 +94,40 @@ public class StaticPersonImpl implements StaticPerson {
      */
     @Override
     public PersonData getPersonData() {
-        return personData;
+        return table.getPersonData(row);
     }
 
     /**
-     * @return the actual position of the person.
+     * @return the actual position of the person, derived from its state, empty while moving.
      */
     @Override
     public Optional<Pair<Integer, Integer>> getPosition() {
-        return position;
+        final long position = table.getPackedPosition(row);
+        return position == Coordinates.NONE ? Optional.empty() : Optional.of(Coordinates.toPair(position));
+    }
+
+    /**
+     * @return the actual position of the person packed in a long, {@link Coordinates#NONE} while moving.
+     */
+    @Override
+    public long getPackedPosition() {
+        return table.getPackedPosition(row);
+    }
+
+    /**
+     * @return the id of the person, which is its row in its table, or a negative id if it has a table of its own.
+     */
+    @Override
+    public int getId() {
+        return table.getId(row);
+    }
+
+    /**
+     * @return the number of people in the cohort of this person.
+     */
+    @Override
+    public int getCohortSize() {
+        return table.getCohortSize(row);
     }
 
     /**
@@ -60,7 +135,7 @@ public class StaticPersonImpl implements StaticPerson {
      */
     @Override
     public double getMoney() {
-        return money;
+        return table.getMoney(row);
     }
 
     /**
@@ -70,7 +145,7 @@ public class StaticPersonImpl implements StaticPerson {
      */
     @Override
     public void addMoney(final double amount) {
-        this.money += amount;
+        table.addMoney(row, amount);
     }
 
     /**
@@ -78,7 +153,7 @@ public class StaticPersonImpl implements StaticPerson {
      */
     @Override
     public PersonState getState() {
-        return state;
+        return table.getState(row);
     }
 
     /**
@@ -87,7 +162,7 @@ public class StaticPersonImpl implements StaticPerson {
      * @param state the new state of the person.
      */
     protected void setState(final PersonState state) {
-        this.state = state;
+        table.setState(row, state);
     }
 
     /**
@@ -95,54 +170,28 @@ public class StaticPersonImpl implements StaticPerson {
      */
     @Override
     public TransportLine[] getTransportLine() {
-        return Arrays.copyOf(transportLine, transportLine.length);
+        return table.getRoute(row).getLines();
     }
 
     /**
-     * @return the duration of the trip from home to work.
+     * @return the shared route of the daily trip of the person.
      */
-    @Override
-    public int getTripDuration() {
-        return tripDuration;
+    protected Route getRoute() {
+        return table.getRoute(row);
     }
 
     /**
-     * Updates the position of the person.
+     * @return the duration of the trip from home to work.
      */
-    protected void updatePosition() {
-        switch (this.state) {
-            case MOVING:
-                this.position = Optional.empty();
-                break;
-            case WORKING:
-                final Pair<Integer, Integer> businessPosition = personData.business().getBusinessData().position();
-                final int newX = businessPosition.getFirst() + getRandomDeviation();
-                final int newY = businessPosition.getSecond() + getRandomDeviation();
-                this.position = Optional.of(new Pair<>(newX, newY));
-                break;
-            case AT_HOME:
-                this.position = Optional.of(homePosition);
-                break;
-            default:
-                throw new IllegalStateException("Invalid state.");
-        }
+    @Override
+    public int getTripDuration() {
+        return table.getTripDuration(row);
     }
 
     /**
-     * @return a random deviation to add to the position of the person between -20
-     *         and 20.
+     * @return the random stream of this person.
      */
-    private int getRandomDeviation() {
-        return RANDOM.nextInt(ConstantAndResourceLoader.MAX_DEVIATION_RANGE)
-                - ConstantAndResourceLoader.MAX_DEVIATION_OFFSET;
-    }
-
-    private void calculateTrip() {
-        this.transportLine = ZoneTable.getInstance().getTransportLine(personData.residenceZone(),
-                personData.business().getBusinessData().zone());
-        if (this.transportLine == null) {
-            throw new IllegalStateException("No transport line found between the given zones.");
-        }
-        tripDuration = ZoneTable.getInstance().getTripDuration(transportLine);
+    protected RandomGenerator getRandom() {
+        return table.random(row);
     }
 }
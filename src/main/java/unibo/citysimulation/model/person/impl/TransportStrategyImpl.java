@@ -4,6 +4,7 @@ import java.util.List;
 
 import unibo.citysimulation.model.person.api.TransportStrategy;
 import unibo.citysimulation.model.transport.api.TransportLine;
+import unibo.citysimulation.model.zone.Route;
 import unibo.citysimulation.utilities.ConstantAndResourceLoader;
 
 /**
@@ -31,4 +32,33 @@ public final class TransportStrategyImpl implements TransportStrategy {
     public void decrementPersonsInLine(final List<TransportLine> lines) {
         lines.forEach(TransportLine::decrementPersonInLine);
     }
+
+    @Override
+    public boolean isCongested(final Route route) {
+        return firstCongestedLine(route) >= 0;
+    }
+
+    @Override
+    public int firstCongestedLine(final Route route) {
+        for (int i = 0; i < route.size(); i++) {
+            if (route.getLine(i).getCongestion() > ConstantAndResourceLoader.CONGESTION_VALUE) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void incrementPersonsInLine(final Route route, final int count) {
+        for (int i = 0; i < route.size(); i++) {
+            route.getLine(i).incrementPersonInLine(count);
+        }
+    }
+
+    @Override
+    public void decrementPersonsInLine(final Route route, final int count) {
+        for (int i = 0; i < route.size(); i++) {
+            route.getLine(i).decrementPersonInLine(count);
+        }
+    }
 }
@@ -0,0 +1,21 @@
+package unibo.citysimulation.model.simulation.api;
+
+import unibo.citysimulation.model.CityModel;
+
+/**
+ * Represents an engine able to run a whole simulation without any user interface.
+ */
+public interface SimulationEngine {
+
+    /**
+     * Creates the entities of the city and advances the clock until the last simulation day is over.
+     *
+     * @return the report of the run, with its throughput and the final statistics
+     */
+    SimulationReport run();
+
+    /**
+     * @return the city model driven by this engine.
+     */
+    CityModel getCityModel();
+}
@@ -0,0 +1,43 @@
+package unibo.citysimulation.model.simulation.api;
+
+import java.util.List;
+
+/**
+ * Represents the outcome of a simulation run.
+ *
+ * @param ticks                the number of clock steps executed
+ * @param elapsedNanos         the wall-clock time spent advancing the clock, in nanoseconds
+ * @param days                 the number of simulated days
+ * @param peopleStateCounts    the final percentage of people AT_HOME, MOVING and WORKING
+ * @param linesCongestion      the final congestion of every transport line
+ * @param businessesOccupation the final occupation percentage of every business
+ * @param averageMoney         the final average money of the people
+ */
+public record SimulationReport(long ticks, long elapsedNanos, int days, List<Integer> peopleStateCounts,
+        List<Double> linesCongestion, List<Integer> businessesOccupation, double averageMoney) {
+    private static final double NANOS_IN_A_SECOND = 1_000_000_000.0;
+
+    /**
+     * Creates a report with unmodifiable copies of the given statistics.
+     *
+     * @param ticks                the number of clock steps executed
+     * @param elapsedNanos         the wall-clock time spent advancing the clock, in nanoseconds
+     * @param days                 the number of simulated days
+     * @param peopleStateCounts    the final percentage of people AT_HOME, MOVING and WORKING
+     * @param linesCongestion      the final congestion of every transport line
+     * @param businessesOccupation the final occupation percentage of every business
+     * @param averageMoney         the final average money of the people
+     */
+    public SimulationReport {
+        peopleStateCounts = List.copyOf(peopleStateCounts);
+        linesCongestion = List.copyOf(linesCongestion);
+        businessesOccupation = List.copyOf(businessesOccupation);
+    }
+
+    /**
+     * @return the number of clock steps executed per wall-clock second.
+     */
+    public double ticksPerSecond() {
+        return elapsedNanos == 0 ? ticks : ticks * NANOS_IN_A_SECOND / elapsedNanos;
+    }
+}
@@ -0,0 +1,79 @@
+package unibo.citysimulation.model.simulation.impl;
+
+import java.util.List;
+
+import unibo.citysimulation.model.CityModel;
+import unibo.citysimulation.model.CityModelImpl;
+import unibo.citysimulation.model.InputModel;
+import unibo.citysimulation.model.clock.api.ClockModel;
+import unibo.citysimulation.model.graphics.impl.StatisticCalculator;
+import unibo.citysimulation.model.person.api.DynamicPerson;
+import unibo.citysimulation.model.simulation.api.SimulationEngine;
+import unibo.citysimulation.model.simulation.api.SimulationReport;
+
+/**
+ * A simulation engine that runs the clock steps back-to-back, with no timer pacing
+ * and no view observers attached, so that long simulations complete as fast as possible.
+ * It can also skip the idle periods, jumping from a scheduled event to the next one.
+ */
+public final class HeadlessSimulationEngine implements SimulationEngine {
+    private final CityModel cityModel;
+    private final int totalDays;
+    private final boolean skipIdle;
+
+    /**
+     * Constructs a headless engine for the given input configuration, stepping through every clock step.
+     *
+     * @param inputModel the configuration of the city to simulate
+     * @param totalDays  the number of days to simulate
+     */
+    public HeadlessSimulationEngine(final InputModel inputModel, final int totalDays) {
+        this(inputModel, totalDays, false);
+    }
+
+    /**
+     * Constructs a headless engine for the given input configuration.
+     *
+     * @param inputModel the configuration of the city to simulate
+     * @param totalDays  the number of days to simulate
+     * @param skipIdle   true to jump from an event to the next one instead of stepping through the idle periods
+     */
+    public HeadlessSimulationEngine(final InputModel inputModel, final int totalDays, final boolean skipIdle) {
+        this.cityModel = new CityModelImpl(inputModel, totalDays);
+        this.totalDays = totalDays;
+        this.skipIdle = skipIdle;
+    }
+
+    /**
+     * Creates the entities of the city and runs every clock step of the simulation.
+     *
+     * @return the report of the run
+     */
+    @Override
+    public SimulationReport run() {
+        cityModel.createEntities();
+        final ClockModel clockModel = cityModel.getClockModel();
+
+        long ticks = 0;
+        final long start = System.nanoTime();
+        while (skipIdle ? clockModel.skipToNextEvent() : clockModel.tick()) {
+            ticks++;
+        }
+        final long elapsed = System.nanoTime() - start;
+
+        final List<DynamicPerson> people = cityModel.getAllPeople();
+        return new SimulationReport(ticks, elapsed, totalDays,
+                StatisticCalculator.getPeopleStateCounts(cityModel.getPersonStateCounters()),
+                StatisticCalculator.getTransportLinesCongestion(cityModel.getTransportLines()),
+                StatisticCalculator.getBusinessesOccupation(cityModel.getBusinesses()),
+                StatisticCalculator.getAverageMoney(people));
+    }
+
+    /**
+     * @return the city model driven by this engine.
+     */
+    @Override
+    public CityModel getCityModel() {
+        return cityModel;
+    }
+}
@@ -1,5 +1,7 @@
 package unibo.citysimulation.model.transport.api;
 
+import java.util.function.Consumer;
+
 
 import unibo.citysimulation.model.zone.Zone;
 import unibo.citysimulation.utilities.Pair;
@@ -39,6 +41,18 @@ public interface TransportLine {
      * Decrements the number of people in line by one.
      */
     void decrementPersonInLine();
+    /**
+     * Increments the number of people in line by the given count, as when a whole cohort boards.
+     *
+     * @param count the number of people boarding
+     */
+    void incrementPersonInLine(int count);
+    /**
+     * Decrements the number of people in line by the given count, never going below zero.
+     *
+     * @param count the number of people leaving
+     */
+    void decrementPersonInLine(int count);
     /**
      * Returns the capacity of the transport line.
      *
@@ -74,6 +88,33 @@ public interface TransportLine {
      * @param capacity the new capacity of the transport line
      */
     void setCapacity(int capacity);
+    /**
+     * Puts a rider at the end of the queue of people waiting for this line to free up.
+     *
+     * @param rider       the rider that could not board
+     * @param currentTime the current time, in seconds of the day
+     */
+    void addWaitingRider(WaitingRider rider, int currentTime);
+    /**
+     * Lets the waiting riders board in arrival order, as long as the line is not congested.
+     * Riders finding another line of their route congested move to the queue of that line.
+     *
+     * @param currentTime the current time, in seconds of the day
+     * @param boarded     receives every rider that boarded
+     */
+    void admitWaitingRiders(int currentTime, Consumer<WaitingRider> boarded);
+    /**
+     * Returns the number of people waiting for this line.
+     *
+     * @return the number of people in the queue
+     */
+    int getWaitingPeople();
+    /**
+     * Returns the average time waited by the people that boarded from the queue.
+     *
+     * @return the average waiting time in seconds, or zero if nobody waited
+     */
+    double getAverageWaitingTime();
 }
 
 
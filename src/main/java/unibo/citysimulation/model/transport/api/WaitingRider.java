@@ -0,0 +1,20 @@
+package unibo.citysimulation.model.transport.api;
+
+/**
+ * Someone waiting in the queue of a congested transport line.
+ */
+public interface WaitingRider {
+    /**
+     * Tries to board the whole route the rider is waiting for. If another line of the route
+     * is still congested, the rider joins the queue of that line instead.
+     *
+     * @param currentTime the current time, in seconds of the day
+     * @return true if the rider boarded, false if it is still waiting
+     */
+    boolean board(int currentTime);
+
+    /**
+     * @return the number of people travelling together as this rider.
+     */
+    int getCohortSize();
+}
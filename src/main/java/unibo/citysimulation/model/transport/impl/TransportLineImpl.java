@@ -1,19 +1,32 @@
 package unibo.citysimulation.model.transport.impl;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import unibo.citysimulation.utilities.ConstantAndResourceLoader;
 import unibo.citysimulation.utilities.Pair;
 import unibo.citysimulation.model.transport.api.TransportLine;
+import unibo.citysimulation.model.transport.api.WaitingRider;
 import unibo.citysimulation.model.zone.Zone;
 
 
 /**
  * Represents a transport line within the city simulation.
+ * The number of people in line can be updated concurrently by several threads,
+ * while the queue of waiting riders is handled by the thread updating the people.
  */
 public class TransportLineImpl implements TransportLine {
     private int capacity;
     private final String name;
-    private int personInLine;
+    private final AtomicInteger personInLine = new AtomicInteger();
     private final int duration;
     private final Pair<Zone, Zone> link;
+    private final Deque<Waiting> waiting = new ArrayDeque<>();
+    private int waitingPeople;
+    private long boardedFromQueue;
+    private long totalWaitingSeconds;
     /**
      * Constructor for TransportLineImpl.
      * @param name
@@ -76,7 +89,7 @@ public class TransportLineImpl implements TransportLine {
      */
     @Override
     public int getPersonInLine() {
-        return personInLine;
+        return personInLine.get();
     }
 
     /**
@@ -84,7 +97,7 @@ public class TransportLineImpl implements TransportLine {
      */
     @Override
     public void resetPersonInLine() {
-        personInLine = 0;
+        personInLine.set(0);
     }
 
     /**
@@ -95,7 +108,7 @@ public class TransportLineImpl implements TransportLine {
      */
     @Override
     public double getCongestion() {
-        return (double) personInLine * 100 / capacity;
+        return (double) personInLine.get() * 100 / capacity;
     }
     /**
      * Returns the duration of the transport line.
@@ -123,7 +136,7 @@ public class TransportLineImpl implements TransportLine {
      */
     @Override
     public void incrementPersonInLine() {
-        personInLine++;
+        personInLine.incrementAndGet();
     }
     /**
      * Decrements the number of people in line by one.
@@ -131,8 +144,83 @@ public class TransportLineImpl implements TransportLine {
      */
     @Override
     public void decrementPersonInLine() {
-        if (personInLine > 0) {
-        personInLine--;
+        personInLine.updateAndGet(count -> count > 0 ? count - 1 : 0);
+    }
+    /**
+     * Increments the number of people in line by the given count.
+     * This method can be safely overridden in subclasses, if any.
+     *
+     * @param count the number of people boarding
+     */
+    @Override
+    public void incrementPersonInLine(final int count) {
+        personInLine.addAndGet(count);
+    }
+    /**
+     * Decrements the number of people in line by the given count, never going below zero.
+     * This method can be safely overridden in subclasses, if any.
+     *
+     * @param count the number of people leaving
+     */
+    @Override
+    public void decrementPersonInLine(final int count) {
+        int inLine;
+        do {
+            inLine = personInLine.get();
+        } while (!personInLine.compareAndSet(inLine, Math.max(inLine - count, 0)));
+    }
+    /**
+     * Puts a rider at the end of the queue of this line.
+     *
+     * @param rider       the rider that could not board
+     * @param currentTime the current time, in seconds of the day
+     */
+    @Override
+    public void addWaitingRider(final WaitingRider rider, final int currentTime) {
+        waiting.addLast(new Waiting(rider, currentTime));
+        waitingPeople += rider.getCohortSize();
+    }
+    /**
+     * Lets the waiting riders board in arrival order, as long as the line is not congested.
+     *
+     * @param currentTime the current time, in seconds of the day
+     * @param boarded     receives every rider that boarded
+     */
+    @Override
+    public void admitWaitingRiders(final int currentTime, final Consumer<WaitingRider> boarded) {
+        while (!waiting.isEmpty() && getCongestion() <= ConstantAndResourceLoader.CONGESTION_VALUE) {
+            final Waiting next = waiting.pollFirst();
+            waitingPeople -= next.rider().getCohortSize();
+            if (next.rider().board(currentTime)) {
+                boardedFromQueue += next.rider().getCohortSize();
+                totalWaitingSeconds += (long) next.rider().getCohortSize()
+                        * Math.floorMod(currentTime - next.since(), ConstantAndResourceLoader.SECONDS_IN_A_DAY);
+                boarded.accept(next.rider());
+            }
         }
     }
+    /**
+     * Returns the number of people waiting for this line.
+     *
+     * @return the number of people in the queue
+     */
+    @Override
+    public int getWaitingPeople() {
+        return waitingPeople;
+    }
+    /**
+     * Returns the average time waited by the people that boarded from the queue.
+     *
+     * @return the average waiting time in seconds, or zero if nobody waited
+     */
+    @Override
+    public double getAverageWaitingTime() {
+        return boardedFromQueue == 0 ? 0 : (double) totalWaitingSeconds / boardedFromQueue;
+    }
+
+    /**
+     * A rider in the queue, with the time it started waiting.
+     */
+    private record Waiting(WaitingRider rider, int since) {
+    }
 }
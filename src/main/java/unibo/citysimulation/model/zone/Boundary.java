@@ -1,5 +1,6 @@
 package unibo.citysimulation.model.zone;
 
+import unibo.citysimulation.utilities.Coordinates;
 import unibo.citysimulation.utilities.Pair;
 
 /**
@@ -7,7 +8,10 @@ import unibo.citysimulation.utilities.Pair;
  * It defines the coordinates of the top-left corner (x1, y1) and the bottom-right corner (x2, y2).
  */
 public class Boundary {
-    private final Pair<Pair<Integer, Integer>, Pair<Integer, Integer>> coordinates;
+    private final int x1;
+    private final int y1;
+    private final int x2;
+    private final int y2;
 
     /**
      * Constructs a Boundary object with the specified coordinates.
@@ -18,7 +22,10 @@ public class Boundary {
      * @param y2 the y-coordinate of the bottom-right corner
      */
     public Boundary(final int x1, final int y1, final int x2, final int y2) {
-        coordinates = new Pair<>(new Pair<>(x1, y1), new Pair<>(x2, y2));
+        this.x1 = x1;
+        this.y1 = y1;
+        this.x2 = x2;
+        this.y2 = y2;
     }
 
     /**
@@ -29,8 +36,7 @@ public class Boundary {
      * @return true if the coordinates are inside the boundary, false otherwise
      */
     public boolean isInside(final int x, final int y) {
-        return x >= coordinates.getFirst().getFirst() && x <= coordinates.getSecond().getFirst() 
-        && y >= coordinates.getFirst().getSecond() && y <= coordinates.getSecond().getSecond();
+        return x >= x1 && x <= x2 && y >= y1 && y <= y2;
     }
 
     /**
@@ -39,7 +45,7 @@ public class Boundary {
      * @return the height of the boundary
      */
     public int getHeight() {
-        return coordinates.getSecond().getSecond() - coordinates.getFirst().getSecond();
+        return y2 - y1;
     }
 
     /**
@@ -48,7 +54,7 @@ public class Boundary {
      * @return the width of the boundary
      */
     public int getWidth() {
-        return coordinates.getSecond().getFirst() - coordinates.getFirst().getFirst();
+        return x2 - x1;
     }
 
     /**
@@ -57,7 +63,7 @@ public class Boundary {
      * @return the x-coordinate of the top-left corner
      */
     public int getX() {
-        return coordinates.getFirst().getFirst();
+        return x1;
     }
 
     /**
@@ -66,7 +72,7 @@ public class Boundary {
      * @return the y-coordinate of the top-left corner
      */
     public int getY() {
-        return coordinates.getFirst().getSecond();
+        return y1;
     }
 
     /**
@@ -87,4 +93,15 @@ public class Boundary {
     public boolean contains(final Pair<Integer, Integer> position) {
         return isInside(position.getFirst(), position.getSecond());
     }
+
+    /**
+     * Checks if the given packed position is inside the boundary.
+     *
+     * @param packedPosition the position to check, packed with {@link Coordinates#pack(int, int)}
+     * @return true if the position is inside the boundary, false otherwise
+     */
+    public boolean contains(final long packedPosition) {
+        return packedPosition != Coordinates.NONE
+            && isInside(Coordinates.x(packedPosition), Coordinates.y(packedPosition));
+    }
 }
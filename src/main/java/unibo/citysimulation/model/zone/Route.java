@@ -0,0 +1,55 @@
+package unibo.citysimulation.model.zone;
+
+import java.util.Arrays;
+
+import unibo.citysimulation.model.transport.api.TransportLine;
+
+/**
+ * An immutable route between two zones: the transport lines to travel, in order, and the
+ * precomputed duration of the trip. Routes are built once by the {@link ZoneTable} and shared
+ * by all the people travelling between the same zones, so that commuting does not allocate.
+ */
+public final class Route {
+    private final TransportLine[] lines;
+    private final int duration;
+
+    /**
+     * Constructs a route travelling the given lines.
+     *
+     * @param lines    the transport lines to travel, in order
+     * @param duration the duration of the trip, in seconds
+     */
+    Route(final TransportLine[] lines, final int duration) {
+        this.lines = Arrays.copyOf(lines, lines.length);
+        this.duration = duration;
+    }
+
+    /**
+     * @return the number of transport lines of the route
+     */
+    public int size() {
+        return lines.length;
+    }
+
+    /**
+     * @param index the position of the line in the route
+     * @return the transport line at the given position
+     */
+    public TransportLine getLine(final int index) {
+        return lines[index];
+    }
+
+    /**
+     * @return a copy of the transport lines of the route
+     */
+    public TransportLine[] getLines() {
+        return Arrays.copyOf(lines, lines.length);
+    }
+
+    /**
+     * @return the duration of the trip, in seconds
+     */
+    public int getDuration() {
+        return duration;
+    }
+}
@@ -1,6 +1,7 @@
 package unibo.citysimulation.model.zone;
 
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 import unibo.citysimulation.utilities.Pair;
 /**
@@ -15,7 +16,6 @@ import unibo.citysimulation.utilities.Pair;
  */
 public record Zone(String name, float personPercents, float businessPercents, Pair<Integer, Integer> wellfareMinMax,
         Pair<Integer, Integer> ageMinMax, Boundary boundary) {
-    static final Random RANDOM = new Random();
 
     /**
      * Generates a random position within the zone's boundary.
@@ -23,8 +23,18 @@ public record Zone(String name, float personPercents, float businessPercents, Pa
      * @return a Pair object representing the random position (x, y)
      */
     public Pair<Integer, Integer> getRandomPosition() {
-        final int x = RANDOM.nextInt(boundary.getWidth()) + boundary.getX();
-        final int y = RANDOM.nextInt(boundary.getHeight()) + boundary.getY();
+        return getRandomPosition(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Generates a random position within the zone's boundary, drawn from the given generator.
+     * 
+     * @param random the generator to draw the position from
+     * @return a Pair object representing the random position (x, y)
+     */
+    public Pair<Integer, Integer> getRandomPosition(final RandomGenerator random) {
+        final int x = random.nextInt(boundary.getWidth()) + boundary.getX();
+        final int y = random.nextInt(boundary.getHeight()) + boundary.getY();
         return new Pair<>(x, y);
     }
 }
@@ -0,0 +1,146 @@
+package unibo.citysimulation.model.zone;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+import unibo.citysimulation.model.business.api.EmploymentListener;
+import unibo.citysimulation.model.business.impl.Business;
+import unibo.citysimulation.model.person.api.DynamicPerson;
+import unibo.citysimulation.model.transport.api.TransportLine;
+
+/**
+ * Keeps the totals of every zone shown in the info panel, so they are read in constant time.
+ * The residents, the businesses and the direct lines of a zone are counted once, when the aggregates
+ * are created; the employees and the payroll of its businesses, the money they pay in a day, are kept
+ * up to date by the businesses, which notify the aggregates every time they hire or fire someone
+ * once registered with {@link Business#setEmploymentListener(EmploymentListener)}.
+ * Zones unknown to the aggregates have all the totals equal to zero.
+ */
+public final class ZoneAggregates implements EmploymentListener {
+    private static final Totals NONE = new Totals(0, 0, 0);
+    private final Map<Zone, Totals> byZone = new HashMap<>();
+    private final Map<String, Totals> byName = new HashMap<>();
+
+    /**
+     * Counts the totals of the given zones.
+     *
+     * @param zones      the zones of the city
+     * @param transports the transport lines linking the zones
+     * @param businesses the businesses, with the people they already employ
+     * @param people     the people, grouped in any way
+     */
+    public ZoneAggregates(final List<Zone> zones, final List<TransportLine> transports,
+            final List<Business> businesses, final List<List<DynamicPerson>> people) {
+        final Map<Zone, Integer> residents = new HashMap<>();
+        for (final List<DynamicPerson> group : people) {
+            for (final DynamicPerson person : group) {
+                residents.merge(person.getPersonData().residenceZone(), person.getCohortSize(), Integer::sum);
+            }
+        }
+        final Map<Zone, Integer> businessCounts = new HashMap<>();
+        for (final Business business : businesses) {
+            businessCounts.merge(business.getBusinessData().zone(), 1, Integer::sum);
+        }
+        for (final Zone zone : zones) {
+            final int directLines = (int) transports.stream()
+                    .filter(line -> line.getLink().getFirst().equals(zone) || line.getLink().getSecond().equals(zone))
+                    .count();
+            final Totals totals = new Totals(residents.getOrDefault(zone, 0), businessCounts.getOrDefault(zone, 0),
+                    directLines);
+            byZone.put(zone, totals);
+            byName.putIfAbsent(zone.name(), totals);
+        }
+        for (final Business business : businesses) {
+            onEmploymentChange(business, business.getHeadcount());
+        }
+    }
+
+    /**
+     * Updates the employees and the payroll of the zone of the business.
+     *
+     * @param business        the business that hired or fired someone
+     * @param headcountChange the change of the headcount of the business
+     */
+    @Override
+    public void onEmploymentChange(final Business business, final int headcountChange) {
+        final Totals totals = byZone.get(business.getBusinessData().zone());
+        if (totals != null) {
+            totals.employees.add(headcountChange);
+            totals.payroll.add(headcountChange * business.calculatePay());
+        }
+    }
+
+    /**
+     * @param zoneName the name of the zone
+     * @return the number of people living in the zone, counting every member of the cohorts
+     */
+    public int getResidents(final String zoneName) {
+        return byName.getOrDefault(zoneName, NONE).residents;
+    }
+
+    /**
+     * @param zoneName the name of the zone
+     * @return the number of businesses in the zone
+     */
+    public int getBusinesses(final String zoneName) {
+        return byName.getOrDefault(zoneName, NONE).businesses;
+    }
+
+    /**
+     * @param zone the zone
+     * @return the number of transport lines starting or ending in the zone
+     */
+    public int getDirectLines(final Zone zone) {
+        return totalsOf(zone).directLines;
+    }
+
+    /**
+     * @param zone the zone
+     * @return the number of people working in the businesses of the zone
+     */
+    public long getEmployees(final Zone zone) {
+        return totalsOf(zone).employees.sum();
+    }
+
+    /**
+     * @param zone the zone
+     * @return the money the businesses of the zone pay their employees in a day
+     */
+    public double getPayroll(final Zone zone) {
+        return totalsOf(zone).payroll.sum();
+    }
+
+    /**
+     * @param zone the zone
+     * @return the payroll of the zone divided by the number of its businesses, zero if it has none
+     */
+    public double getAveragePayroll(final Zone zone) {
+        final Totals totals = totalsOf(zone);
+        return totals.businesses == 0 ? 0 : totals.payroll.sum() / totals.businesses;
+    }
+
+    private Totals totalsOf(final Zone zone) {
+        return Optional.ofNullable(byZone.get(zone)).orElse(NONE);
+    }
+
+    /**
+     * The totals of a zone.
+     */
+    private static final class Totals {
+        private final int residents;
+        private final int businesses;
+        private final int directLines;
+        private final LongAdder employees = new LongAdder();
+        private final DoubleAdder payroll = new DoubleAdder();
+
+        Totals(final int residents, final int businesses, final int directLines) {
+            this.residents = residents;
+            this.businesses = businesses;
+            this.directLines = directLines;
+        }
+    }
+}
@@ -1,18 +1,18 @@
 package unibo.citysimulation.model.zone;
 
 
-import java.util.Arrays;
-import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 
 import unibo.citysimulation.model.transport.api.TransportLine;
-import unibo.citysimulation.utilities.Pair;
 /**
- * Private constructor to prevent instantiation.
+ * Holds the routes between every pair of zones in a dense matrix indexed by zone;
+ * every {@link Route} carries the precomputed duration of its trip.
  */
 public final class ZoneTable {
-    private static final Map<Pair<Zone, Zone>, TransportLine[]> ZONE_PAIRS = new HashMap<>();
     private static final int MINUTES_IN_HOUR = 60;
+    private volatile RouteMatrix matrix = new RouteMatrix(List.of());
     /**
      * This class holds the singleton instance of ZoneTable in a final field.
      */
@@ -32,24 +32,76 @@ public final class ZoneTable {
     public static ZoneTable getInstance() {
         return Holder.INSTANCE;
     }
+    /**
+     * Replaces all the routes with the given matrix of transport lines.
+     * @param zones the zones, in the order of the rows and columns of the matrix
+     * @param routes the transport lines connecting every pair of zones, null where there is no route
+     */
+    public void setRoutes(final List<Zone> zones, final TransportLine[][][] routes) {
+        final RouteMatrix newMatrix = new RouteMatrix(zones);
+        for (int i = 0; i < zones.size(); i++) {
+            for (int j = 0; j < zones.size(); j++) {
+                newMatrix.set(i, j, routes[i][j]);
+            }
+        }
+        matrix = newMatrix;
+    }
     /**
      * Adds a pair of zones and transport lines to the zone table.
+     * Both zones must be among the zones of the current routes.
      * @param zone1 the first zone
      * @param zone2 the second zone
      * @param transportLine the transport lines connecting the two zones
      */
     public void addPair(final Zone zone1, final Zone zone2, final TransportLine[] transportLine) {
-        ZONE_PAIRS.put(new Pair<>(zone1, zone2), transportLine);
-        ZONE_PAIRS.put(new Pair<>(zone2, zone1), transportLine); // to ensure the table works both ways
+        final RouteMatrix current = matrix;
+        final int i = current.indexOf(zone1);
+        final int j = current.indexOf(zone2);
+        if (i < 0 || j < 0) {
+            throw new IllegalArgumentException("Both zones must be in the zone table.");
+        }
+        current.set(i, j, transportLine);
+        current.set(j, i, transportLine); // to ensure the table works both ways
+    }
+    /**
+     * Returns the index of a zone in the rows and columns of the route matrix.
+     * @param zone the zone
+     * @return the index of the zone, or -1 if the zone is not in the table
+     */
+    public int indexOf(final Zone zone) {
+        return matrix.indexOf(zone);
     }
     /**
      * Returns the transport lines connecting two zones.
      * @param zone1 the first zone
      * @param zone2 the second zone
-     * @return the transport lines connecting the two zones
+     * @return the transport lines connecting the two zones, or null if there is no route
      */
     public TransportLine[] getTransportLine(final Zone zone1, final Zone zone2) {
-        return ZONE_PAIRS.get(new Pair<Zone, Zone>(zone1, zone2));
+        final Route route = getRoute(zone1, zone2);
+        return route == null ? null : route.getLines();
+    }
+    /**
+     * Returns the shared route between two zones.
+     * @param zone1 the first zone
+     * @param zone2 the second zone
+     * @return the route between the two zones, or null if there is no route
+     */
+    public Route getRoute(final Zone zone1, final Zone zone2) {
+        final RouteMatrix current = matrix;
+        final int i = current.indexOf(zone1);
+        final int j = current.indexOf(zone2);
+        return i < 0 || j < 0 ? null : current.routes[i][j];
+    }
+    /**
+     * Returns the precomputed duration of the trip between two zones.
+     * @param zone1 the first zone
+     * @param zone2 the second zone
+     * @return the duration of the trip, or -1 if there is no route
+     */
+    public int getTripDuration(final Zone zone1, final Zone zone2) {
+        final Route route = getRoute(zone1, zone2);
+        return route == null ? -1 : route.getDuration();
     }
     /**
      * Returns the duration of a trip given the transport lines.
@@ -57,9 +109,34 @@ public final class ZoneTable {
      * @return the duration of the trip
      */
     public int getTripDuration(final TransportLine[] transportLines) {
-        return Arrays.stream(transportLines)
-                             .mapToInt(TransportLine::getDuration)
-                             .map(duration -> duration * MINUTES_IN_HOUR)
-                             .sum();
+        int duration = 0;
+        for (final TransportLine line : transportLines) {
+            duration += line.getDuration() * MINUTES_IN_HOUR;
+        }
+        return duration;
+    }
+
+    /**
+     * The routes between the zones known at a given moment; zones are looked up by identity.
+     */
+    private final class RouteMatrix {
+        private final Map<Zone, Integer> indexes = new IdentityHashMap<>();
+        private final Route[][] routes;
+
+        RouteMatrix(final List<Zone> zones) {
+            for (int i = 0; i < zones.size(); i++) {
+                indexes.put(zones.get(i), i);
+            }
+            routes = new Route[zones.size()][zones.size()];
+        }
+
+        int indexOf(final Zone zone) {
+            final Integer index = indexes.get(zone);
+            return index == null ? -1 : index;
+        }
+
+        void set(final int i, final int j, final TransportLine[] lines) {
+            routes[i][j] = lines == null ? null : new Route(lines, getTripDuration(lines));
+        }
     }
 }
@@ -1,43 +1,97 @@
 package unibo.citysimulation.model.zone;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import unibo.citysimulation.model.transport.api.TransportLine;
 /**
- * This class creates and adds pairs of zones and transport lines to the zone table.
+ * This class builds the routes between every pair of zones from the transport lines,
+ * taking for every pair the fastest path and, between equally fast paths, the one with fewer lines.
  */
 public final class ZoneTableCreation {
-    private static final int TRANSPORT_LINE_0 = 0;
-    private static final int TRANSPORT_LINE_1 = 1;
-    private static final int TRANSPORT_LINE_2 = 2;
-    private static final int TRANSPORT_LINE_3 = 3;
-    private static final int TRANSPORT_LINE_4 = 4;
-    private static final int TRANSPORT_LINE_5 = 5;
-    private static final int TRANSPORT_LINE_6 = 6;
+    private static final int NO_PATH = Integer.MAX_VALUE;
     private ZoneTableCreation() {
     }
 
     /**
-     * Creates and adds pairs of zones and transport lines to the zone table.
-     * 
+     * Computes the shortest route between every pair of zones with the Floyd-Warshall algorithm
+     * and stores them in the zone table.
+     *
      * @param zones      the list of zones
      * @param transports the list of transport lines
      */
     public static void createAndAddPairs(final List<Zone> zones, final List<TransportLine> transports) {
-        final ZoneTable zoneTable = ZoneTable.getInstance();
-        zoneTable.addPair(zones.get(0), zones.get(1), new TransportLine[]{transports.get(TRANSPORT_LINE_0)});
-        zoneTable.addPair(zones.get(0), zones.get(2), new TransportLine[]{transports.get(TRANSPORT_LINE_1)});
-        zoneTable.addPair(zones.get(0), zones.get(3), new TransportLine[]{transports.get(TRANSPORT_LINE_2)});
-        zoneTable.addPair(zones.get(0), zones.get(4), new TransportLine[]{transports.get(TRANSPORT_LINE_3)});
-        zoneTable.addPair(zones.get(1), zones.get(2), new TransportLine[]{transports.get(TRANSPORT_LINE_0),
-            transports.get(TRANSPORT_LINE_1)});
-        zoneTable.addPair(zones.get(1), zones.get(3), new TransportLine[]{transports.get(TRANSPORT_LINE_4),
-            transports.get(TRANSPORT_LINE_6)});
-        zoneTable.addPair(zones.get(1), zones.get(4), new TransportLine[]{transports.get(TRANSPORT_LINE_4)});
-        zoneTable.addPair(zones.get(2), zones.get(3), new TransportLine[]{transports.get(TRANSPORT_LINE_5)});
-        zoneTable.addPair(zones.get(2), zones.get(4), new TransportLine[]{transports.get(TRANSPORT_LINE_5),
-            transports.get(TRANSPORT_LINE_6)});
-        zoneTable.addPair(zones.get(3), zones.get(4), new TransportLine[]{transports.get(TRANSPORT_LINE_6)});
+        final int n = zones.size();
+        final Map<Zone, Integer> indexes = new IdentityHashMap<>();
+        for (int i = 0; i < n; i++) {
+            indexes.put(zones.get(i), i);
+        }
+
+        final int[][] duration = new int[n][n];
+        final int[][] hops = new int[n][n];
+        final int[][] next = new int[n][n];
+        final TransportLine[][] direct = new TransportLine[n][n];
+        for (int i = 0; i < n; i++) {
+            Arrays.fill(duration[i], NO_PATH);
+            Arrays.fill(next[i], -1);
+            duration[i][i] = 0;
+            next[i][i] = i;
+        }
+        for (final TransportLine line : transports) {
+            final Integer a = indexes.get(line.getLinkedZones().getFirst());
+            final Integer b = indexes.get(line.getLinkedZones().getSecond());
+            if (a != null && b != null && !a.equals(b) && line.getDuration() < duration[a][b]) {
+                duration[a][b] = line.getDuration();
+                duration[b][a] = line.getDuration();
+                hops[a][b] = 1;
+                hops[b][a] = 1;
+                next[a][b] = b;
+                next[b][a] = a;
+                direct[a][b] = line;
+                direct[b][a] = line;
+            }
+        }
+
+        for (int k = 0; k < n; k++) {
+            for (int i = 0; i < n; i++) {
+                if (duration[i][k] == NO_PATH) {
+                    continue;
+                }
+                for (int j = 0; j < n; j++) {
+                    if (duration[k][j] == NO_PATH) {
+                        continue;
+                    }
+                    final int viaK = duration[i][k] + duration[k][j];
+                    final int hopsViaK = hops[i][k] + hops[k][j];
+                    if (viaK < duration[i][j] || viaK == duration[i][j] && hopsViaK < hops[i][j]) {
+                        duration[i][j] = viaK;
+                        hops[i][j] = hopsViaK;
+                        next[i][j] = next[i][k];
+                    }
+                }
+            }
+        }
+
+        final TransportLine[][][] routes = new TransportLine[n][n][];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (i != j && next[i][j] >= 0) {
+                    routes[i][j] = path(i, j, next, direct);
+                }
+            }
+        }
+        ZoneTable.getInstance().setRoutes(zones, routes);
     }
-}
 
+    private static TransportLine[] path(final int from, final int to, final int[][] next,
+            final TransportLine[][] direct) {
+        final List<TransportLine> lines = new ArrayList<>();
+        for (int current = from; current != to; current = next[current][to]) {
+            lines.add(direct[current][next[current][to]]);
+        }
+        return lines.toArray(new TransportLine[0]);
+    }
+}
@@ -84,6 +84,11 @@ public final class ConstantAndResourceLoader extends ClassLoader {
      */
     public static final int CONGESTION_VALUE = 98;
 
+    /**
+     * Number of people updated by a single task when people are updated in parallel.
+     */
+    public static final int PERSON_UPDATE_BLOCK_SIZE = 256;
+
     /**
      * Maximum variation in moving time.
      */
@@ -94,6 +99,11 @@ public final class ConstantAndResourceLoader extends ClassLoader {
      */
     public static final int SECONDS_IN_A_MINUTE = 60;
 
+    /**
+     * Number of simulated seconds advanced at every clock step.
+     */
+    public static final int SECONDS_IN_A_TICK = MINUTES_IN_A_SECOND * SECONDS_IN_A_MINUTE;
+
     /**
      * Number of seconds in a day.
      *
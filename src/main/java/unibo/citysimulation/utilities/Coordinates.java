@@ -0,0 +1,68 @@
+package unibo.citysimulation.utilities;
+
+/**
+ * Packs a pair of int coordinates in a single long, so that positions can be stored,
+ * compared and passed around without allocating a {@link Pair} of boxed integers.
+ * The x coordinate takes the high 32 bits and the y coordinate the low 32 bits.
+ */
+public final class Coordinates {
+    /**
+     * The packed value representing no position, such as the one of a moving person.
+     * It is the value packed from an x of {@link Integer#MIN_VALUE} and a y of zero,
+     * so those coordinates must never be packed as a real position.
+     */
+    public static final long NONE = Long.MIN_VALUE;
+
+    private static final int Y_BITS = 32;
+    private static final long Y_MASK = 0xFFFF_FFFFL;
+
+    private Coordinates() {
+    }
+
+    /**
+     * Packs the given coordinates, which must not be ({@link Integer#MIN_VALUE}, 0), packed as {@link #NONE}.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return the packed position
+     */
+    public static long pack(final int x, final int y) {
+        return (long) x << Y_BITS | y & Y_MASK;
+    }
+
+    /**
+     * Packs the given pair of coordinates.
+     *
+     * @param position the position to pack
+     * @return the packed position
+     */
+    public static long pack(final Pair<Integer, Integer> position) {
+        return pack(position.getFirst(), position.getSecond());
+    }
+
+    /**
+     * @param packed a packed position
+     * @return the x coordinate of the position
+     */
+    public static int x(final long packed) {
+        return (int) (packed >> Y_BITS);
+    }
+
+    /**
+     * @param packed a packed position
+     * @return the y coordinate of the position
+     */
+    public static int y(final long packed) {
+        return (int) packed;
+    }
+
+    /**
+     * Unpacks a position into a pair, for the APIs that still expose positions as pairs.
+     *
+     * @param packed a packed position, other than {@link #NONE}
+     * @return the position as a pair
+     */
+    public static Pair<Integer, Integer> toPair(final long packed) {
+        return new Pair<>(x(packed), y(packed));
+    }
+}
@@ -59,12 +59,13 @@ public class Pair<F, S> implements Serializable {
     }
 
     /**
-     * Returns the hash code value for this Pair.
+     * Returns the hash code value for this Pair; it depends on the order of the values,
+     * so that a pair and its reverse do not always collide.
      *
      * @return the hash code value
      */
     @Override
     public int hashCode() {
-        return first.hashCode() + second.hashCode();
+        return 31 * first.hashCode() + second.hashCode();
     }
 }
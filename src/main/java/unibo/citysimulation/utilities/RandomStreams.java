@@ -0,0 +1,100 @@
+package unibo.citysimulation.utilities;
+
+import java.util.SplittableRandom;
+
+/**
+ * Hands out independent and reproducible random number streams, all derived from a single seed.
+ * A stream is identified by its purpose and by the id of the agent or partition using it, so the
+ * numbers drawn by an agent depend neither on the other agents nor on the thread that draws them,
+ * and streams share no state with each other.
+ */
+public final class RandomStreams {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final long MIX_MULTIPLIER_1 = 0xbf58476d1ce4e5b9L;
+    private static final long MIX_MULTIPLIER_2 = 0x94d049bb133111ebL;
+    private static final int MIX_SHIFT_1 = 30;
+    private static final int MIX_SHIFT_2 = 27;
+    private static final int MIX_SHIFT_3 = 31;
+
+    private final long seed;
+
+    /**
+     * The users of the random streams.
+     */
+    public enum Purpose {
+        /**
+         * Creation of a business, one stream per business.
+         */
+        BUSINESS,
+        /**
+         * Creation and life of a person, one stream per person.
+         */
+        PERSON,
+        /**
+         * Hiring and firing decisions of the employment office.
+         */
+        EMPLOYMENT_OFFICE
+    }
+
+    /**
+     * Constructs the streams derived from the given seed.
+     *
+     * @param seed the seed of the simulation
+     */
+    public RandomStreams(final long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * @return the seed of the simulation.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Creates the stream for the given purpose and id.
+     * Asking twice for the same stream returns two generators producing the same numbers.
+     *
+     * @param purpose the user of the stream
+     * @param id      the id of the agent or partition using the stream
+     * @return a new generator, to be used by a single thread
+     */
+    public SplittableRandom stream(final Purpose purpose, final long id) {
+        return new SplittableRandom(seedOf(purpose, id));
+    }
+
+    /**
+     * Computes the seed of the stream for the given purpose and id.
+     *
+     * @param purpose the user of the stream
+     * @param id      the id of the agent or partition using the stream
+     * @return the seed of the stream
+     */
+    public long seedOf(final Purpose purpose, final long id) {
+        return mix(mix(seed + GOLDEN_GAMMA * (purpose.ordinal() + 1)) + id);
+    }
+
+    /**
+     * Advances a generator whose whole state is a single long, as the SplitMix64 algorithm does.
+     * This lets tables of agents keep their generators in a primitive column.
+     *
+     * @param state the current state of the generator
+     * @return the next state of the generator
+     */
+    public static long nextState(final long state) {
+        return state + GOLDEN_GAMMA;
+    }
+
+    /**
+     * Turns a state of a SplitMix64 generator into its random output.
+     *
+     * @param value the state to mix
+     * @return the random output for that state
+     */
+    public static long mix(final long value) {
+        long z = (value ^ (value >>> MIX_SHIFT_1)) * MIX_MULTIPLIER_1;
+        z = (z ^ (z >>> MIX_SHIFT_2)) * MIX_MULTIPLIER_2;
+        return z ^ (z >>> MIX_SHIFT_3);
+    }
+}
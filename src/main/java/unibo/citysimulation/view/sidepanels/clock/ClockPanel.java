@@ -47,6 +47,17 @@ public interface ClockPanel {
     */
     void addSpeedButtonActionListener(ActionListener actionListener);
 
+    /**
+     * Adds an action listener to the skip idle toggle.
+     * @param actionListener The action listener to add
+     */
+    void addSkipIdleButtonActionListener(ActionListener actionListener);
+
+    /**
+     * @return True if the skip idle toggle is selected, false otherwise.
+     */
+    boolean isSkipIdleSelected();
+
     /**
      * Sets the pause button enabled state.
      *
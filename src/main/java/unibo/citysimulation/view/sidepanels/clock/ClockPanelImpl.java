@@ -8,6 +8,7 @@ import javax.swing.SwingConstants;
 
 import javax.swing.JButton;
 import javax.swing.JPanel;
+import javax.swing.JToggleButton;
 import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.Dimension;
@@ -25,6 +26,7 @@ public class ClockPanelImpl extends StyledPanel implements ClockPanel {
     private final JLabel timeHour = new JLabel("Hour: 00:00", SwingConstants.CENTER);
     private final JButton speedButton;
     private final JButton pauseButton;
+    private final JToggleButton skipIdleButton;
     private final List<Integer> speeds = ConstantAndResourceLoader.SPEEDS;
     private int currentSpeedIndex;
 
@@ -45,6 +47,9 @@ public class ClockPanelImpl extends StyledPanel implements ClockPanel {
         pauseButton.setPreferredSize(new Dimension(ConstantAndResourceLoader.CLOCK_PANEL_PANEL_WIDTH,
                 ConstantAndResourceLoader.CLOCK_PANEL_PANEL_HEIGHT)); // Set the preferred size
 
+        skipIdleButton = new JToggleButton("Skip idle periods");
+        skipIdleButton.setForeground(Color.black);
+
         final JPanel timePanel = new JPanel(new GridLayout(2, 1));
         timePanel.setBackground(bgColor);
         timeDay.setFont(new Font("Arial", Font.BOLD, ConstantAndResourceLoader.CLOCK_PANEL_FONT_SIZE));
@@ -56,6 +61,7 @@ public class ClockPanelImpl extends StyledPanel implements ClockPanel {
         add(speedButton, BorderLayout.WEST);
         add(timePanel, BorderLayout.CENTER);
         add(pauseButton, BorderLayout.EAST);
+        add(skipIdleButton, BorderLayout.SOUTH);
     }
 
     /**
@@ -120,6 +126,24 @@ public class ClockPanelImpl extends StyledPanel implements ClockPanel {
         speedButton.addActionListener(actionListener);
     }
 
+    /**
+     * Adds an action listener to the skip idle toggle.
+     */
+    @Override
+    public void addSkipIdleButtonActionListener(final ActionListener actionListener) {
+        skipIdleButton.addActionListener(actionListener);
+    }
+
+    /**
+     * Tells whether the skip idle toggle is selected.
+     *
+     * @return True if the toggle is selected.
+     */
+    @Override
+    public boolean isSkipIdleSelected() {
+        return skipIdleButton.isSelected();
+    }
+
     /**
      * Sets the pause button enabled state.
      *
@@ -0,0 +1,53 @@
+package unibo.citylife.model.business;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import unibo.citysimulation.model.business.impl.Business;
+import unibo.citysimulation.model.business.impl.BusinessFactoryImpl;
+import unibo.citysimulation.model.business.utilities.BusinessConfig;
+import unibo.citysimulation.model.zone.Zone;
+import unibo.citysimulation.model.zone.ZoneCreation;
+import unibo.citysimulation.utilities.RandomStreams;
+
+class BusinessFactoryImplTest {
+    private static final long SEED = 42;
+    private static final int PEOPLE = 10_000 * BusinessConfig.BUSINESS_PERCENTAGE;
+    private final List<Zone> zones = ZoneCreation.createZonesFromFile();
+
+    private static List<String> describe(final List<Business> businesses) {
+        return businesses.stream()
+            .map(business -> business.getBusinessData().id() + " " + business.getClass().getSimpleName() + " "
+                + business.getBusinessData().position())
+            .toList();
+    }
+
+    @Test
+    void testTheSameSeedCreatesTheSameBusinesses() {
+        final List<Business> first = new BusinessFactoryImpl(new RandomStreams(SEED))
+            .createMultipleBusiness(zones, PEOPLE);
+        final List<Business> second = new BusinessFactoryImpl(new RandomStreams(SEED))
+            .createMultipleBusiness(zones, PEOPLE);
+        assertEquals(describe(first), describe(second));
+        assertEquals(IntStream.range(0, first.size()).boxed().toList(),
+            first.stream().map(business -> business.getBusinessData().id()).toList(),
+            "Every factory should number its businesses from zero");
+    }
+
+    @Test
+    void testZonesGetBusinessesByTheirPercentages() {
+        final List<Business> businesses = new BusinessFactoryImpl(new RandomStreams(SEED))
+            .createMultipleBusiness(zones, PEOPLE);
+        final double percents = zones.stream().mapToDouble(Zone::businessPercents).sum();
+        assertEquals(PEOPLE / BusinessConfig.BUSINESS_PERCENTAGE, businesses.size());
+        for (final Zone zone : zones) {
+            final long count = businesses.stream().filter(business -> business.getBusinessData().zone().equals(zone))
+                .count();
+            assertEquals(businesses.size() * zone.businessPercents() / percents, count, 1);
+        }
+    }
+}
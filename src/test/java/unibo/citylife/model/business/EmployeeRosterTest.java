@@ -0,0 +1,124 @@
+package unibo.citylife.model.business;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import unibo.citysimulation.model.business.impl.Business;
+import unibo.citysimulation.model.business.impl.BusinessFactoryImpl;
+import unibo.citysimulation.model.business.impl.Employee;
+import unibo.citysimulation.model.business.impl.EmployeeRoster;
+import unibo.citysimulation.model.business.utilities.BusinessType;
+import unibo.citysimulation.model.person.api.DynamicPerson;
+import unibo.citysimulation.model.person.api.PersonData;
+import unibo.citysimulation.model.person.api.StaticPerson.PersonState;
+import unibo.citysimulation.model.person.impl.DynamicPersonImpl;
+import unibo.citysimulation.model.transport.api.TransportLine;
+import unibo.citysimulation.model.transport.impl.TransportFactoryImpl;
+import unibo.citysimulation.model.zone.Zone;
+import unibo.citysimulation.model.zone.ZoneCreation;
+import unibo.citysimulation.model.zone.ZoneTableCreation;
+import unibo.citysimulation.utilities.ConstantAndResourceLoader;
+
+class EmployeeRosterTest {
+    private final List<Zone> zones = ZoneCreation.createZonesFromFile();
+    private final List<TransportLine> transports = new TransportFactoryImpl().createTransportsFromFile(zones);
+    private Business business;
+
+    @BeforeEach
+    void setUp() {
+        ZoneTableCreation.createAndAddPairs(zones, transports);
+        business = new BusinessFactoryImpl().createBusiness(BusinessType.BIG, zones.get(0)).get();
+    }
+
+    private Employee employee(final String name) {
+        return new Employee(new DynamicPersonImpl(new PersonData(name, 30, business, zones.get(1)), 100),
+            business.getBusinessData());
+    }
+
+    @Test
+    void testTardyEmployeesAreTrackedWhenCrossingTheLimit() {
+        final Employee punctual = employee("punctual");
+        final Employee late = employee("late");
+        assertTrue(business.hire(punctual));
+        assertTrue(business.hire(late));
+        final EmployeeRoster roster = business.getBusinessData().employees();
+        assertEquals(2, business.getHeadcount());
+
+        for (int i = 0; i < business.getBusinessData().maxTardiness(); i++) {
+            late.incrementDelayCount();
+        }
+        assertEquals(List.of(), roster.getTardyEmployees(), "Nobody is over the limit yet");
+
+        late.incrementDelayCount();
+        assertEquals(List.of(late), roster.getTardyEmployees());
+
+        business.fire(late);
+        assertFalse(roster.contains(late));
+        assertEquals(List.of(), roster.getTardyEmployees(), "A fired employee is no longer tardy");
+        assertEquals(1, business.getHeadcount());
+        assertEquals(List.of(punctual), List.copyOf(roster));
+    }
+
+    @Test
+    void testHiringAnEmployeeAlreadyOverTheLimit() {
+        final Employee late = new Employee(employee("late").person(), business.getBusinessData(),
+            business.getBusinessData().maxTardiness() + 1);
+        business.hire(late);
+        assertEquals(List.of(late), business.getBusinessData().employees().getTardyEmployees());
+    }
+
+    @Test
+    void testLateArrivalsAreCountedAtOpening() {
+        final Employee punctual = employee("punctual");
+        final Employee late = employee("late");
+        business.hire(punctual);
+        business.hire(late);
+        final int opening = business.getOpeningSecond();
+
+        final int lateArrival = late.person().getBusinessBegin() + ConstantAndResourceLoader.SECONDS_IN_A_TICK;
+        business.recordArrival(punctual.person(), punctual.person().getBusinessBegin());
+        business.recordArrival(late.person(), lateArrival);
+        business.recordArrival(late.person(), lateArrival);
+        business.checkEmployeeDelays(opening);
+        assertEquals(0, punctual.count());
+        assertEquals(1, late.count(), "A late arrival should be counted once");
+
+        business.checkEmployeeDelays(opening);
+        assertEquals(1, late.count(), "Late arrivals should be counted only at the first opening after them");
+    }
+
+    @Test
+    void testOnlyDelayedCommutersAreLate() {
+        final Employee onTime = employee("on time");
+        final Employee queued = employee("queued");
+        business.hire(onTime);
+        business.hire(queued);
+        final DynamicPerson punctual = onTime.person();
+        final DynamicPerson waiting = queued.person();
+
+        punctual.checkState(punctual.getNextEventTime());
+        punctual.checkState(punctual.getNextEventTime());
+        assertSame(PersonState.WORKING, punctual.getState());
+
+        final TransportLine line = waiting.getTransportLine()[0];
+        final int departure = waiting.getNextEventTime();
+        line.incrementPersonInLine(line.getCapacity());
+        waiting.checkState(departure);
+        assertTrue(waiting.isLate(), "The commuter should wait for the congested line");
+        line.decrementPersonInLine(line.getCapacity());
+        waiting.admitWaitingRiders(departure + ConstantAndResourceLoader.SECONDS_IN_A_TICK, rider -> { });
+        waiting.checkState(waiting.getNextEventTime());
+        assertSame(PersonState.WORKING, waiting.getState());
+
+        business.checkEmployeeDelays(business.getOpeningSecond());
+        assertEquals(0, onTime.count(), "Arriving at the own scheduled start should not be late");
+        assertEquals(1, queued.count(), "Arriving after waiting in a queue should be late");
+    }
+}
@@ -0,0 +1,87 @@
+package unibo.citylife.model.business;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import unibo.citysimulation.model.business.impl.Business;
+import unibo.citysimulation.model.business.impl.BusinessFactoryImpl;
+import unibo.citysimulation.model.business.impl.Employee;
+import unibo.citysimulation.model.business.impl.PayrollLedger;
+import unibo.citysimulation.model.business.utilities.BusinessType;
+import unibo.citysimulation.model.person.api.DynamicPerson;
+import unibo.citysimulation.model.person.api.PersonData;
+import unibo.citysimulation.model.person.impl.DynamicPersonImpl;
+import unibo.citysimulation.model.person.impl.PopulationTable;
+import unibo.citysimulation.model.transport.api.TransportLine;
+import unibo.citysimulation.model.transport.impl.TransportFactoryImpl;
+import unibo.citysimulation.model.zone.Zone;
+import unibo.citysimulation.model.zone.ZoneCreation;
+import unibo.citysimulation.model.zone.ZoneTableCreation;
+
+class PayrollLedgerTest {
+    private static final int MONEY = 100;
+    private final List<Zone> zones = ZoneCreation.createZonesFromFile();
+    private final List<TransportLine> transports = new TransportFactoryImpl().createTransportsFromFile(zones);
+    private final PopulationTable table = new PopulationTable(3);
+    private Business business;
+
+    @BeforeEach
+    void setUp() {
+        ZoneTableCreation.createAndAddPairs(zones, transports);
+        business = new BusinessFactoryImpl().createBusiness(BusinessType.BIG, zones.get(0)).get();
+    }
+
+    private DynamicPerson person(final String name) {
+        return new DynamicPersonImpl(table, new PersonData(name, 30, business, zones.get(1)), MONEY, name.hashCode());
+    }
+
+    @Test
+    void testPayTheEmployeesAndKeepTheJournal() {
+        final DynamicPerson first = person("first");
+        final DynamicPerson fired = person("fired");
+        final DynamicPerson last = person("last");
+        business.hire(new Employee(first, business.getBusinessData()));
+        final Employee toFire = new Employee(fired, business.getBusinessData(),
+            business.getBusinessData().maxTardiness() + 1);
+        business.hire(toFire);
+        business.hire(new Employee(last, business.getBusinessData()));
+        business.fire(toFire);
+
+        final PayrollLedger ledger = new PayrollLedger(table, List.of(business), zones);
+        final double pay = business.calculatePay();
+        ledger.pay(List.of(business), 1);
+        ledger.pay(List.of(business), 3);
+
+        assertEquals(MONEY + 2 * pay, first.getMoney());
+        assertEquals(MONEY, fired.getMoney(), "A fired employee should not be paid");
+        assertEquals(MONEY + 2 * pay, last.getMoney());
+        assertEquals(3, ledger.getDays());
+        assertArrayEquals(new double[] {2 * pay, 0, 2 * pay}, ledger.getBusinessPayrolls(business),
+            "Every day should keep its own payroll");
+        assertArrayEquals(new double[] {2 * pay, 0, 2 * pay}, ledger.getZonePayrolls(zones.get(0)));
+        assertArrayEquals(new double[] {0, 0, 0}, ledger.getZonePayrolls(zones.get(1)));
+    }
+
+    @Test
+    void testOnlyPeopleOfTheTableCanBePaid() {
+        final DynamicPerson stranger = new DynamicPersonImpl(new PersonData("stranger", 30, business, zones.get(1)),
+            MONEY);
+        business.hire(new Employee(stranger, business.getBusinessData()));
+        assertThrows(IllegalArgumentException.class, () -> new PayrollLedger(table, List.of(business), zones),
+            "A ledger should not be built for employees of another table");
+
+        final Business other = new BusinessFactoryImpl().createBusiness(BusinessType.BIG, zones.get(0)).get();
+        new PayrollLedger(table, List.of(other), zones);
+        assertTrue(other.hire(new Employee(person("member"), other.getBusinessData())));
+        assertThrows(IllegalArgumentException.class,
+            () -> other.hire(new Employee(stranger, other.getBusinessData())),
+            "Once paid by a ledger, a business should not hire people of another table");
+    }
+}
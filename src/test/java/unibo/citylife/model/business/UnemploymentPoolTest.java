@@ -0,0 +1,100 @@
+package unibo.citylife.model.business;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import unibo.citysimulation.model.business.api.BusinessFactory;
+import unibo.citysimulation.model.business.impl.Business;
+import unibo.citysimulation.model.business.impl.BusinessFactoryImpl;
+import unibo.citysimulation.model.business.impl.Employee;
+import unibo.citysimulation.model.business.impl.EmploymentOfficeManager;
+import unibo.citysimulation.model.business.utilities.BusinessType;
+import unibo.citysimulation.model.business.utilities.EmploymentOfficeData;
+import unibo.citysimulation.model.business.utilities.UnemploymentPool;
+import unibo.citysimulation.model.person.api.DynamicPerson;
+import unibo.citysimulation.model.person.api.PersonData;
+import unibo.citysimulation.model.person.impl.DynamicPersonImpl;
+import unibo.citysimulation.model.transport.api.TransportLine;
+import unibo.citysimulation.model.transport.impl.TransportFactoryImpl;
+import unibo.citysimulation.model.zone.Zone;
+import unibo.citysimulation.model.zone.ZoneCreation;
+import unibo.citysimulation.model.zone.ZoneTableCreation;
+
+class UnemploymentPoolTest {
+    private final List<Zone> zones = ZoneCreation.createZonesFromFile();
+    private final List<TransportLine> transports = new TransportFactoryImpl().createTransportsFromFile(zones);
+    private final BusinessFactory businessFactory = new BusinessFactoryImpl();
+    private Business business;
+
+    @BeforeEach
+    void setUp() {
+        ZoneTableCreation.createAndAddPairs(zones, transports);
+        business = businessFactory.createBusiness(BusinessType.BIG, zones.get(0)).get();
+    }
+
+    private DynamicPerson person(final String name, final int age, final Zone residence) {
+        final Business workplace = residence.equals(zones.get(0))
+            ? businessFactory.createBusiness(BusinessType.BIG, zones.get(1)).get()
+            : business;
+        return new DynamicPersonImpl(new PersonData(name, age, workplace, residence), 100);
+    }
+
+    @Test
+    void testCandidatesFollowTheRulesAndTheOrder() {
+        final DynamicPerson tooOld = person("old", 70, zones.get(1));
+        final DynamicPerson first = person("first", 30, zones.get(2));
+        final DynamicPerson sameZone = person("neighbour", 30, zones.get(0));
+        final DynamicPerson second = person("second", 25, zones.get(1));
+        final DynamicPerson third = person("third", 40, zones.get(2));
+        final UnemploymentPool pool = new UnemploymentPool(List.of(tooOld, first, sameZone, second, third));
+
+        assertEquals(List.of(first, second, third), pool.candidates(zones.get(0), 20, 60, 10),
+            "Candidates should live in other zones, have the right age and keep the order they were added");
+        assertEquals(List.of(first, second), pool.candidates(zones.get(0), 20, 60, 2));
+        assertEquals(5, pool.size(), "Looking for candidates should not remove them");
+    }
+
+    @Test
+    void testAddAndRemove() {
+        final DynamicPerson first = person("first", 30, zones.get(2));
+        final DynamicPerson second = person("second", 30, zones.get(2));
+        final UnemploymentPool pool = new UnemploymentPool();
+        assertTrue(pool.add(first));
+        assertTrue(pool.add(second));
+        assertFalse(pool.add(first), "A person can be unemployed only once");
+
+        assertTrue(pool.remove(first));
+        assertFalse(pool.contains(first));
+        assertFalse(pool.remove(first));
+        assertEquals(List.of(second), pool.candidates(zones.get(0), 20, 60, 10));
+
+        pool.add(first);
+        assertEquals(List.of(second, first), List.copyOf(pool), "A person added again goes at the end");
+    }
+
+    @Test
+    void testBusinessesOpeningTogetherShareOnePass() {
+        final Business other = businessFactory.createBusiness(BusinessType.BIG, zones.get(1)).get();
+        final DynamicPerson neighbour = person("neighbour", 30, zones.get(0));
+        final DynamicPerson tooOld = person("old", 70, zones.get(2));
+        final DynamicPerson stranger = person("stranger", 30, zones.get(2));
+        final DynamicPerson last = person("last", 30, zones.get(2));
+        final EmploymentOfficeData office = new EmploymentOfficeData(List.of(neighbour, tooOld, stranger, last));
+        // every business wants a single person
+        final EmploymentOfficeManager manager = new EmploymentOfficeManager(office, () -> 0L);
+
+        manager.handleEmployeeHiring(List.of(business, other));
+
+        assertEquals(List.of(stranger), business.getBusinessData().employees().stream().map(Employee::person).toList(),
+            "The first business should get the first person not living in its zone");
+        assertEquals(List.of(neighbour), other.getBusinessData().employees().stream().map(Employee::person).toList(),
+            "The second business should get the first person left that it accepts");
+        assertEquals(List.of(tooOld, last), List.copyOf(office.disoccupied()));
+    }
+}
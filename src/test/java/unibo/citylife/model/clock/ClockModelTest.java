@@ -6,14 +6,20 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import javax.swing.SwingUtilities;
+
 import unibo.citysimulation.model.clock.api.ClockModel;
 import unibo.citysimulation.model.clock.api.ClockObserver;
 import unibo.citysimulation.model.clock.impl.ClockModelImpl;
 import unibo.citysimulation.utilities.ConstantAndResourceLoader;
 
+import java.lang.reflect.InvocationTargetException;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -45,7 +51,7 @@ class ClockModelTest {
 
         assertNotNull(clockModel.getDoubleCurrentTime());
 
-        assertNotNull(clockModel.getTimer());
+        assertTrue(clockModel.getTickScheduler().isRunning());
 
         final int maxWaitTime = 5;
         observer.awaitInitialization(maxWaitTime, TimeUnit.SECONDS);
@@ -74,6 +80,89 @@ class ClockModelTest {
         clockModel.removeObserver(observer);
     }
 
+    @Test
+    void testViewObserversAreCoalesced() throws InterruptedException, InvocationTargetException {
+        final List<LocalTime> delivered = new ArrayList<>();
+        clockModel.addViewObserver((currentTime, currentDay) -> delivered.add(currentTime));
+
+        // Keep the Event Dispatch Thread busy while the clock advances
+        final CountDownLatch edtBusy = new CountDownLatch(1);
+        SwingUtilities.invokeLater(() -> {
+            try {
+                edtBusy.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        final int ticks = 10;
+        for (int i = 0; i < ticks; i++) {
+            clockModel.tick();
+        }
+        edtBusy.countDown();
+        SwingUtilities.invokeAndWait(() -> { });
+
+        assertEquals(List.of(clockModel.getCurrentTime()), delivered);
+        assertEquals(ticks - 1, clockModel.getCoalescedViewUpdates());
+    }
+
+    @Test
+    void testModelObserversReceiveElapsedSeconds() {
+        final List<Integer> elapsed = new ArrayList<>();
+        clockModel.addObserver(new ClockObserver() {
+            @Override
+            public void onTimeUpdate(final LocalTime currentTime, final int currentDay) {
+                throw new IllegalStateException("The primitive update should be used");
+            }
+
+            @Override
+            public void onTimeUpdate(final int elapsedSeconds, final int currentDay) {
+                elapsed.add(elapsedSeconds);
+            }
+        });
+        final int ticksInADay = ConstantAndResourceLoader.SECONDS_IN_A_DAY / ConstantAndResourceLoader.SECONDS_IN_A_TICK;
+        for (int i = 0; i < ticksInADay; i++) {
+            clockModel.tick();
+        }
+        assertEquals(ticksInADay, elapsed.size());
+        assertEquals(ConstantAndResourceLoader.SECONDS_IN_A_DAY, elapsed.get(ticksInADay - 1));
+        assertEquals(2, clockModel.getCurrentDay());
+        assertEquals(LocalTime.MIDNIGHT, clockModel.getCurrentTime());
+    }
+
+    @Test
+    void testSkipToNextEventNotifiesOnlyDueObservers() {
+        final int eightAm = 8 * 3600;
+        final List<LocalTime> scheduledUpdates = new ArrayList<>();
+        final List<LocalTime> everyStepUpdates = new ArrayList<>();
+        clockModel.addObserver(new ClockObserver() {
+            @Override
+            public void onTimeUpdate(final LocalTime currentTime, final int currentDay) {
+                scheduledUpdates.add(currentTime);
+            }
+
+            @Override
+            public int secondsUntilNextEvent(final int elapsedSeconds, final int currentDay) {
+                return Math.floorMod(eightAm - elapsedSeconds - 1,
+                        ConstantAndResourceLoader.SECONDS_IN_A_DAY) + 1;
+            }
+        });
+
+        assertTrue(clockModel.skipToNextEvent());
+        assertEquals(LocalTime.of(8, 0), clockModel.getCurrentTime());
+        assertEquals(List.of(LocalTime.of(8, 0)), scheduledUpdates);
+
+        clockModel.addObserver((currentTime, currentDay) -> everyStepUpdates.add(currentTime));
+        assertTrue(clockModel.advanceTo(2, LocalTime.of(8, 0)));
+        assertEquals(2, clockModel.getCurrentDay());
+        assertEquals(List.of(LocalTime.of(8, 0), LocalTime.of(8, 0)), scheduledUpdates);
+        assertEquals(ConstantAndResourceLoader.SECONDS_IN_A_DAY / ConstantAndResourceLoader.SECONDS_IN_A_TICK,
+                everyStepUpdates.size());
+
+        assertThrows(IllegalArgumentException.class, () -> clockModel.advanceTo(1, LocalTime.of(9, 0)));
+        assertFalse(clockModel.advanceTo(TOTAL_DAYS + 2, LocalTime.MIDNIGHT));
+        assertFalse(clockModel.skipToNextEvent());
+    }
+
     // Observer test class
     private static final class TestClockObserver implements ClockObserver {
         private final CountDownLatch latch = new CountDownLatch(1);
@@ -0,0 +1,104 @@
+package unibo.citylife.model.clock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import unibo.citysimulation.model.clock.api.TickScheduler;
+import unibo.citysimulation.model.clock.api.TickScheduler.CatchUpPolicy;
+import unibo.citysimulation.model.clock.impl.DriftCompensatingTickScheduler;
+
+class TickSchedulerTest {
+    private static final long PERIOD = 5;
+    private static final long SLOW_TASK = 20;
+    private static final int TICKS_TO_WAIT = 5;
+    private static final long MAX_WAIT = 5;
+
+    private final TickScheduler scheduler = new DriftCompensatingTickScheduler(CatchUpPolicy.SKIP);
+
+    @AfterEach
+    void tearDown() {
+        scheduler.stop();
+    }
+
+    @Test
+    void testTicksArePaced() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(TICKS_TO_WAIT);
+        scheduler.start(latch::countDown, PERIOD);
+        assertTrue(scheduler.isRunning());
+        assertTrue(latch.await(MAX_WAIT, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testPauseStopsTicks() throws InterruptedException {
+        final AtomicInteger ticks = new AtomicInteger();
+        final CountDownLatch firstTick = new CountDownLatch(1);
+        scheduler.start(() -> {
+            ticks.incrementAndGet();
+            firstTick.countDown();
+        }, PERIOD);
+        assertTrue(firstTick.await(MAX_WAIT, TimeUnit.SECONDS));
+        scheduler.pause();
+        assertTrue(scheduler.isPaused());
+        final int ticksAtPause = ticks.get();
+        Thread.sleep(PERIOD * TICKS_TO_WAIT);
+        assertEquals(ticksAtPause, ticks.get());
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        scheduler.start(latch::countDown, PERIOD);
+        assertFalse(scheduler.isPaused());
+        assertTrue(latch.await(MAX_WAIT, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testPauseWaitsForTheRunningTick() throws InterruptedException {
+        final CountDownLatch tickStarted = new CountDownLatch(1);
+        final AtomicBoolean tickRunning = new AtomicBoolean();
+        scheduler.start(() -> {
+            tickRunning.set(true);
+            tickStarted.countDown();
+            try {
+                Thread.sleep(SLOW_TASK);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            tickRunning.set(false);
+        }, PERIOD);
+        assertTrue(tickStarted.await(MAX_WAIT, TimeUnit.SECONDS));
+        scheduler.pause();
+        assertFalse(tickRunning.get(), "Pause should return only after the running tick");
+    }
+
+    @Test
+    void testOverrunsAreCounted() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(2);
+        scheduler.start(() -> {
+            try {
+                Thread.sleep(SLOW_TASK);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            latch.countDown();
+        }, PERIOD);
+        assertTrue(latch.await(MAX_WAIT, TimeUnit.SECONDS));
+        assertTrue(scheduler.getOverrunCount() > 0);
+        assertTrue(scheduler.getMaxLagNanos() >= scheduler.getLastLagNanos());
+    }
+
+    @Test
+    void testStopAndInvalidPeriod() {
+        scheduler.start(() -> { }, PERIOD);
+        scheduler.stop();
+        assertFalse(scheduler.isRunning());
+        assertThrows(IllegalArgumentException.class, () -> scheduler.start(() -> { }, 0));
+    }
+}
@@ -0,0 +1,72 @@
+package unibo.citylife.model.clock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import unibo.citysimulation.model.clock.impl.TimingWheel;
+import unibo.citysimulation.utilities.ConstantAndResourceLoader;
+
+class TimingWheelTest {
+    private static final int TICK = ConstantAndResourceLoader.SECONDS_IN_A_TICK;
+    private static final int EIGHT_AM = 8 * 3600;
+
+    @Test
+    void testDrainReturnsOnlyDueItems() {
+        final TimingWheel<String> wheel = new TimingWheel<>(TICK);
+        wheel.schedule(EIGHT_AM, "first");
+        wheel.schedule(EIGHT_AM, "second");
+        wheel.schedule(EIGHT_AM + TICK, "later");
+        assertEquals(3, wheel.size());
+
+        assertTrue(wheel.drain(EIGHT_AM - TICK).isEmpty());
+        assertEquals(List.of("first", "second"), wheel.drain(EIGHT_AM));
+        assertEquals(1, wheel.size());
+        assertEquals(List.of("later"), wheel.drain(EIGHT_AM + TICK));
+    }
+
+    @Test
+    void testItemsAtKeepsRecurringItems() {
+        final TimingWheel<String> wheel = new TimingWheel<>(TICK);
+        wheel.schedule(EIGHT_AM, "opening");
+        assertEquals(List.of("opening"), wheel.itemsAt(EIGHT_AM));
+        assertEquals(List.of("opening"), wheel.itemsAt(EIGHT_AM));
+        assertTrue(wheel.itemsAt(EIGHT_AM + TICK).isEmpty());
+    }
+
+    @Test
+    void testIsEmptyAtFollowsTheBuckets() {
+        final TimingWheel<String> wheel = new TimingWheel<>(TICK);
+        assertTrue(wheel.isEmptyAt(EIGHT_AM));
+        wheel.schedule(EIGHT_AM, "opening");
+        assertFalse(wheel.isEmptyAt(EIGHT_AM));
+        assertTrue(wheel.isEmptyAt(EIGHT_AM + TICK));
+        wheel.drain(EIGHT_AM);
+        assertTrue(wheel.isEmptyAt(EIGHT_AM));
+    }
+
+    @Test
+    void testSecondsUntilNext() {
+        final TimingWheel<String> wheel = new TimingWheel<>(TICK);
+        assertEquals(-1, wheel.secondsUntilNext(0));
+
+        wheel.schedule(EIGHT_AM, "opening");
+        assertEquals(EIGHT_AM, wheel.secondsUntilNext(0));
+        // Only the current bucket is occupied: it is due again the next day
+        assertEquals(ConstantAndResourceLoader.SECONDS_IN_A_DAY, wheel.secondsUntilNext(EIGHT_AM));
+        assertEquals(ConstantAndResourceLoader.SECONDS_IN_A_DAY - TICK, wheel.secondsUntilNext(EIGHT_AM + TICK));
+    }
+
+    @Test
+    void testTimesWrapAroundTheDay() {
+        final TimingWheel<String> wheel = new TimingWheel<>(TICK);
+        wheel.schedule(ConstantAndResourceLoader.SECONDS_IN_A_DAY + TICK, "tomorrow");
+        wheel.schedule(-TICK, "yesterday");
+        assertEquals(List.of("tomorrow"), wheel.drain(TICK));
+        assertEquals(List.of("yesterday"), wheel.drain(ConstantAndResourceLoader.SECONDS_IN_A_DAY - TICK));
+    }
+}
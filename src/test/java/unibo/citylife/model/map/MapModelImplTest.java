@@ -52,7 +52,7 @@ class MapModelImplTest {
         final List<Zone> zones = ZoneCreation.createZonesFromFile();
         lines = transportFactory.createTransportsFromFile(zones);
         ZoneTableCreation.createAndAddPairs(zones, lines);
-        businesses.addAll(BusinessFactoryImpl.createMultipleBusiness(zones, 100));
+        businesses.addAll(new BusinessFactoryImpl().createMultipleBusiness(zones, 100));
         final PersonFactory personFactory = new PersonFactoryImpl();
         final List<List<DynamicPerson>> peopleGroup = personFactory.createAllPeople(100, zones, businesses);
 
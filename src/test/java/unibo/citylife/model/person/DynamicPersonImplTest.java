@@ -1,6 +1,8 @@
 package unibo.citylife.model.person;
+import unibo.citysimulation.model.business.api.BusinessFactory;
 import unibo.citysimulation.model.business.impl.Business;
 import unibo.citysimulation.model.business.impl.BusinessFactoryImpl;
+import unibo.citysimulation.model.business.utilities.BusinessType;
 import unibo.citysimulation.model.person.impl.DynamicPersonImpl;
 import unibo.citysimulation.model.person.api.PersonData;
 import unibo.citysimulation.model.person.api.StaticPerson.PersonState;
@@ -10,6 +12,8 @@ import unibo.citysimulation.model.zone.Zone;
 import unibo.citysimulation.model.zone.ZoneCreation;
 import unibo.citysimulation.model.zone.ZoneTableCreation;
 
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
@@ -20,8 +24,10 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DynamicPersonImplTest {
+    private static final int COMMUTES = 20_000;
     private final List<Zone> zones = ZoneCreation.createZonesFromFile();
     private final List<TransportLine> transports =  new TransportFactoryImpl().createTransportsFromFile(zones);
+    private final BusinessFactory businessFactory = new BusinessFactoryImpl();
     @BeforeEach
     void setUp() {
         ZoneTableCreation.createAndAddPairs(zones, transports);
@@ -32,7 +38,7 @@ class DynamicPersonImplTest {
         final Zone residenceZone = zones.get(2);
         Business business;
         do {
-            business = BusinessFactoryImpl.createRandomBusiness(zones).get();
+            business = businessFactory.createRandomBusiness(zones).get();
         } while (business.getBusinessData().zone().equals(residenceZone));
         // Creazione di un oggetto DynamicPersonImpl da testare
         final PersonData personData = new PersonData("alberto casa", 60, business, residenceZone);
@@ -54,4 +60,34 @@ class DynamicPersonImplTest {
         assertSame(person.getPosition(), Optional.empty());
         assertEquals(1, person.getTransportLine()[0].getPersonInLine());
     }
+
+    @Test
+    void testCommuteDoesNotAllocate() {
+        final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final Zone residenceZone = zones.get(2);
+        final Business business = businessFactory.createBusiness(BusinessType.BIG, zones.get(0)).get();
+        final DynamicPersonImpl person = new DynamicPersonImpl(new PersonData("commuter", 30, business, residenceZone),
+            100);
+        for (int i = 0; i < COMMUTES; i++) {
+            commute(person);
+        }
+
+        final long threadId = Thread.currentThread().getId();
+        final long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < COMMUTES; i++) {
+            commute(person);
+        }
+        final long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertSame(PersonState.AT_HOME, person.getState());
+        assertEquals(0, person.getTransportLine()[0].getPersonInLine());
+        assertTrue(allocated < COMMUTES, "Commuting allocated " + allocated + " bytes in " + COMMUTES + " days");
+    }
+
+    private static void commute(final DynamicPersonImpl person) {
+        person.checkState(person.getNextEventTime());
+        person.checkState(person.getNextEventTime());
+        person.checkState(person.getNextEventTime());
+        person.checkState(person.getNextEventTime());
+    }
 }
@@ -22,7 +22,7 @@ class PersonDataTest {
         final String name = "John";
         final int age = 30;
         final Zone residenceZone = zones.get(random.nextInt(zones.size()));
-        final Business business = BusinessFactoryImpl.createRandomBusiness(zones).get();
+        final Business business = new BusinessFactoryImpl().createRandomBusiness(zones).get();
         final PersonData personData = new PersonData(name, age, business, residenceZone);
 
         assertNotNull(personData);
@@ -0,0 +1,115 @@
+package unibo.citylife.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import unibo.citysimulation.model.business.impl.Business;
+import unibo.citysimulation.model.business.impl.BusinessFactoryImpl;
+import unibo.citysimulation.model.graphics.impl.StatisticCalculator;
+import unibo.citysimulation.model.person.api.DynamicPerson;
+import unibo.citysimulation.model.person.impl.PersonFactoryImpl;
+import unibo.citysimulation.model.transport.api.TransportLine;
+import unibo.citysimulation.model.transport.impl.TransportFactoryImpl;
+import unibo.citysimulation.model.zone.Zone;
+import unibo.citysimulation.model.zone.ZoneCreation;
+import unibo.citysimulation.model.zone.ZoneTableCreation;
+import unibo.citysimulation.utilities.RandomStreams;
+
+class PersonFactoryImplTest {
+    private static final long SEED = 42;
+    private static final int PEOPLE = 500;
+    private final List<Zone> zones = ZoneCreation.createZonesFromFile();
+    private final List<TransportLine> transports = new TransportFactoryImpl().createTransportsFromFile(zones);
+
+    @BeforeEach
+    void setUp() {
+        ZoneTableCreation.createAndAddPairs(zones, transports);
+    }
+
+    private List<List<DynamicPerson>> createCity() {
+        final RandomStreams streams = new RandomStreams(SEED);
+        final List<Business> businesses = new BusinessFactoryImpl(streams).createMultipleBusiness(zones, PEOPLE);
+        return new PersonFactoryImpl(streams).createAllPeople(PEOPLE, zones, businesses);
+    }
+
+    @Test
+    void testCohortsKeepTheTotals() {
+        final List<List<DynamicPerson>> single = createCity();
+        final RandomStreams streams = new RandomStreams(SEED);
+        final List<Business> businesses = new BusinessFactoryImpl(streams).createMultipleBusiness(zones, PEOPLE);
+        final List<List<DynamicPerson>> cohorts = new PersonFactoryImpl(streams, true)
+            .createAllPeople(PEOPLE, zones, businesses);
+
+        for (int i = 0; i < zones.size(); i++) {
+            assertEquals(single.get(i).size(), cohorts.get(i).stream().mapToInt(DynamicPerson::getCohortSize).sum());
+            assertTrue(cohorts.get(i).size() <= single.get(i).size());
+            assertEquals(single.get(i).stream().mapToDouble(DynamicPerson::getMoney).sum(),
+                cohorts.get(i).stream().mapToDouble(p -> p.getMoney() * p.getCohortSize()).sum(), 1e-6);
+        }
+        for (final Business business : businesses) {
+            assertTrue(business.getHeadcount() <= business.getBusinessData().maxEmployees());
+        }
+        assertEquals(single.stream().mapToInt(List::size).sum(),
+            StatisticCalculator.getPopulation(cohorts.stream().flatMap(List::stream).toList()));
+    }
+
+    @Test
+    void testCohortsKeepTheHoursOfTheirMembers() {
+        final Map<String, Integer> single = hours(createCity());
+        final RandomStreams streams = new RandomStreams(SEED);
+        final List<Business> businesses = new BusinessFactoryImpl(streams).createMultipleBusiness(zones, PEOPLE);
+        final Map<String, Integer> cohorts = hours(new PersonFactoryImpl(streams, true)
+            .createAllPeople(PEOPLE, zones, businesses));
+        assertEquals(single, cohorts, "The same seed should give the same business hours in both modes");
+    }
+
+    /**
+     * Counts the people working for every business in every shift.
+     */
+    private static Map<String, Integer> hours(final List<List<DynamicPerson>> groups) {
+        final Map<String, Integer> people = new TreeMap<>();
+        groups.stream().flatMap(List::stream).forEach(person -> people.merge(
+            person.getPersonData().business().getBusinessData().id() + " " + person.getBusinessBegin() + "-"
+                + person.getBusinessEnd(), person.getCohortSize(), Integer::sum));
+        return people;
+    }
+
+    @Test
+    void testPeopleWorkOutsideTheirZone() {
+        final List<List<DynamicPerson>> groups = createCity();
+        assertEquals(zones.size(), groups.size());
+        for (int i = 0; i < zones.size(); i++) {
+            for (final DynamicPerson person : groups.get(i)) {
+                assertEquals(zones.get(i), person.getPersonData().residenceZone());
+                assertNotEquals(zones.get(i), person.getPersonData().business().getBusinessData().zone());
+            }
+        }
+    }
+
+    @Test
+    void testSameSeedGivesSamePeople() {
+        final List<List<DynamicPerson>> first = createCity();
+        final List<List<DynamicPerson>> second = createCity();
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.get(i).size(), second.get(i).size());
+            for (int j = 0; j < first.get(i).size(); j++) {
+                final DynamicPerson a = first.get(i).get(j);
+                final DynamicPerson b = second.get(i).get(j);
+                assertEquals(a.getPersonData().name(), b.getPersonData().name());
+                assertEquals(a.getPersonData().age(), b.getPersonData().age());
+                assertEquals(a.getPersonData().business().getPackedPosition(),
+                    b.getPersonData().business().getPackedPosition());
+                assertEquals(a.getMoney(), b.getMoney());
+                assertEquals(a.getPosition(), b.getPosition());
+            }
+        }
+    }
+}
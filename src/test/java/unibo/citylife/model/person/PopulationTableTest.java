@@ -0,0 +1,142 @@
+package unibo.citylife.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import unibo.citysimulation.model.business.impl.Business;
+import unibo.citysimulation.model.business.impl.BusinessFactoryImpl;
+import unibo.citysimulation.model.business.utilities.BusinessType;
+import unibo.citysimulation.model.person.api.PersonData;
+import unibo.citysimulation.model.person.api.StaticPerson.PersonState;
+import unibo.citysimulation.model.person.impl.DynamicPersonImpl;
+import unibo.citysimulation.model.person.impl.PersonStateCounters;
+import unibo.citysimulation.model.person.impl.PopulationTable;
+import unibo.citysimulation.model.transport.api.TransportLine;
+import unibo.citysimulation.model.transport.impl.TransportFactoryImpl;
+import unibo.citysimulation.model.zone.Zone;
+import unibo.citysimulation.model.zone.ZoneCreation;
+import unibo.citysimulation.model.zone.ZoneTableCreation;
+import unibo.citysimulation.utilities.ConstantAndResourceLoader;
+import unibo.citysimulation.utilities.Coordinates;
+import unibo.citysimulation.utilities.Pair;
+
+class PopulationTableTest {
+    private static final long SEED = 42;
+    private final List<Zone> zones = ZoneCreation.createZonesFromFile();
+    private final List<TransportLine> transports = new TransportFactoryImpl().createTransportsFromFile(zones);
+    private PersonData personData;
+
+    @BeforeEach
+    void setUp() {
+        ZoneTableCreation.createAndAddPairs(zones, transports);
+        final Business business = new BusinessFactoryImpl().createBusiness(BusinessType.BIG, zones.get(1)).get();
+        personData = new PersonData("Mario", 30, business, zones.get(0));
+    }
+
+    @Test
+    void testViewsShareTheRow() {
+        final PopulationTable table = new PopulationTable(2);
+        final DynamicPersonImpl person = new DynamicPersonImpl(table, personData, 100, SEED);
+        final DynamicPersonImpl view = new DynamicPersonImpl(table, 0);
+        assertEquals(1, table.size());
+
+        person.addMoney(50);
+        assertEquals(150, view.getMoney());
+        assertSame(personData, view.getPersonData());
+        assertEquals(person.getPosition(), view.getPosition());
+        assertEquals(person.getBusinessBegin(), view.getBusinessBegin());
+
+        person.checkState(person.getBusinessBegin() - person.getTripDuration());
+        assertEquals(PersonState.MOVING, view.getState());
+    }
+
+    @Test
+    void testSameSeedGivesSamePerson() {
+        final PopulationTable table = new PopulationTable(2);
+        final DynamicPersonImpl first = new DynamicPersonImpl(table, personData, 100, SEED);
+        final DynamicPersonImpl second = new DynamicPersonImpl(table, personData, 100, SEED);
+        assertEquals(first.getPosition(), second.getPosition());
+        assertEquals(first.getBusinessBegin(), second.getBusinessBegin());
+        assertEquals(first.getBusinessEnd(), second.getBusinessEnd());
+    }
+
+    @Test
+    void testPackedPositionMatchesPosition() {
+        final PopulationTable table = new PopulationTable(1);
+        final DynamicPersonImpl person = new DynamicPersonImpl(table, personData, 100, SEED);
+        assertEquals(person.getPosition().get(), Coordinates.toPair(person.getPackedPosition()));
+        assertEquals(Coordinates.pack(-3, 7), Coordinates.pack(new Pair<>(-3, 7)));
+        assertEquals(-3, Coordinates.x(Coordinates.pack(-3, 7)));
+        assertEquals(7, Coordinates.y(Coordinates.pack(-3, 7)));
+
+        person.checkState(person.getBusinessBegin() - person.getTripDuration());
+        assertEquals(Coordinates.NONE, person.getPackedPosition());
+    }
+
+    @Test
+    void testWorkingPositionIsDerivedFromTheSeed() {
+        final PopulationTable table = new PopulationTable(1);
+        final DynamicPersonImpl person = new DynamicPersonImpl(table, personData, 100, SEED);
+        final long home = person.getPackedPosition();
+        person.checkState(person.getBusinessBegin() - person.getTripDuration());
+        person.checkState(person.getNextEventTime());
+        assertSame(PersonState.WORKING, person.getState());
+
+        final long business = personData.business().getPackedPosition();
+        final long atWork = person.getPackedPosition();
+        assertEquals(atWork, person.getPackedPosition(), "The position should not change while working");
+        assertTrue(Math.abs(Coordinates.x(atWork) - Coordinates.x(business)) <= ConstantAndResourceLoader.MAX_DEVIATION_OFFSET);
+        assertTrue(Math.abs(Coordinates.y(atWork) - Coordinates.y(business)) <= ConstantAndResourceLoader.MAX_DEVIATION_OFFSET);
+
+        person.checkState(person.getNextEventTime());
+        person.checkState(person.getNextEventTime());
+        assertEquals(home, person.getPackedPosition(), "The person should be back home");
+    }
+
+    @Test
+    void testStateCountersFollowTheTransitions() {
+        final PopulationTable table = new PopulationTable(2);
+        final DynamicPersonImpl person = new DynamicPersonImpl(table, personData, 100, SEED);
+        new DynamicPersonImpl(table, personData, 100, SEED + 1);
+        final PersonStateCounters counters = table.getStateCounters();
+        assertEquals(2, counters.getCount(PersonState.AT_HOME));
+        assertEquals(2, counters.getCount(zones.get(0), PersonState.AT_HOME));
+        assertEquals(0, counters.getCount(zones.get(1), PersonState.AT_HOME));
+
+        person.checkState(person.getBusinessBegin() - person.getTripDuration());
+        assertEquals(1, counters.getCount(PersonState.AT_HOME));
+        assertEquals(1, counters.getCount(zones.get(0), PersonState.MOVING));
+
+        person.checkState(person.getNextEventTime());
+        assertEquals(0, counters.getCount(PersonState.MOVING));
+        assertEquals(1, counters.getCount(PersonState.WORKING));
+        assertEquals(2, counters.getPopulation());
+    }
+
+    @Test
+    void testPeopleWithATableOfTheirOwnDoNotShareIds() {
+        final PopulationTable table = new PopulationTable(2);
+        new DynamicPersonImpl(table, personData, 100, SEED);
+        final DynamicPersonImpl inTable = new DynamicPersonImpl(table, personData, 100, SEED);
+        final DynamicPersonImpl first = new DynamicPersonImpl(personData, 100);
+        final DynamicPersonImpl second = new DynamicPersonImpl(personData, 100);
+        assertEquals(1, inTable.getId(), "The id of a person in a shared table is its row");
+        assertTrue(first.getId() < 0 && second.getId() < 0);
+        assertNotEquals(first.getId(), second.getId());
+    }
+
+    @Test
+    void testTableIsFull() {
+        final PopulationTable table = new PopulationTable(1);
+        new DynamicPersonImpl(table, personData, 100, SEED);
+        assertThrows(IllegalStateException.class, () -> new DynamicPersonImpl(table, personData, 100, SEED));
+    }
+}
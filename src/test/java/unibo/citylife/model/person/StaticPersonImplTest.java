@@ -1,5 +1,6 @@
 package unibo.citylife.model.person;
 
+import unibo.citysimulation.model.business.api.BusinessFactory;
 import unibo.citysimulation.model.business.impl.Business;
 import unibo.citysimulation.model.business.impl.BusinessFactoryImpl;
 import unibo.citysimulation.model.business.utilities.BusinessType;
@@ -25,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 class StaticPersonImplTest {
     private final List<Zone> zones = ZoneCreation.createZonesFromFile();
     private final List<TransportLine> transports = new TransportFactoryImpl().createTransportsFromFile(zones);
+    private final BusinessFactory businessFactory = new BusinessFactoryImpl();
     private final Random random = new Random();
     private StaticPerson staticPerson;
 
@@ -33,7 +35,7 @@ class StaticPersonImplTest {
         final Zone residenceZone = zones.get(random.nextInt(zones.size()));
         Business business;
         do {
-            business = BusinessFactoryImpl.createBusiness(BusinessType.BIG, zones.get(random.nextInt(zones.size()))).get();
+            business = businessFactory.createBusiness(BusinessType.BIG, zones.get(random.nextInt(zones.size()))).get();
         } while (business.getBusinessData().zone().equals(residenceZone));
         ZoneTableCreation.createAndAddPairs(zones, transports);
         // Simuliamo un dato di una persona per i test
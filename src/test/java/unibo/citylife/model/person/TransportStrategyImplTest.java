@@ -2,6 +2,7 @@ package unibo.citylife.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
@@ -17,17 +18,20 @@ import unibo.citysimulation.model.transport.api.TransportLine;
 import unibo.citysimulation.model.transport.impl.TransportFactoryImpl;
 import unibo.citysimulation.model.zone.Zone;
 import unibo.citysimulation.model.zone.ZoneCreation;
+import unibo.citysimulation.model.zone.Route;
+import unibo.citysimulation.model.zone.ZoneTable;
 import unibo.citysimulation.model.zone.ZoneTableCreation;
 
 class TransportStrategyImplTest {
 
     private TransportStrategy transportStrategy;
     private List<TransportLine> allLines;
+    private List<Zone> zones;
 
     @BeforeEach
     public void setUp() {
         final TransportFactory transportFactory = new TransportFactoryImpl();
-        final List<Zone> zones = ZoneCreation.createZonesFromFile();
+        zones = ZoneCreation.createZonesFromFile();
         allLines = transportFactory.createTransportsFromFile(zones);
         ZoneTableCreation.createAndAddPairs(zones, allLines);
 
@@ -67,4 +71,19 @@ class TransportStrategyImplTest {
 
         assertEquals(0, line.getPersonInLine());
     }
+
+    @Test
+    void testRouteIsSharedAndCongested() {
+        final Route route = ZoneTable.getInstance().getRoute(zones.get(2), zones.get(4));
+        assertSame(route, ZoneTable.getInstance().getRoute(zones.get(2), zones.get(4)));
+        assertEquals(2, route.size());
+        assertFalse(transportStrategy.isCongested(route));
+
+        transportStrategy.incrementPersonsInLine(route, route.getLine(1).getCapacity());
+        assertTrue(transportStrategy.isCongested(route));
+        assertEquals(route.getLine(1).getCapacity(), route.getLine(0).getPersonInLine());
+
+        transportStrategy.decrementPersonsInLine(route, route.getLine(1).getCapacity());
+        assertFalse(transportStrategy.isCongested(route));
+    }
 }
@@ -0,0 +1,72 @@
+package unibo.citylife.model.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import unibo.citysimulation.model.InputModel;
+import unibo.citysimulation.model.simulation.api.SimulationReport;
+import unibo.citysimulation.model.simulation.impl.HeadlessSimulationEngine;
+import unibo.citysimulation.utilities.ConstantAndResourceLoader;
+
+class HeadlessSimulationEngineTest {
+    private static final int DAYS = 2;
+    private static final int SLIDER_VALUE = 50;
+    private static final int CAPACITY = 100;
+    private static final long SEED = 42;
+
+    @Test
+    void testRunCompletesAllTicks() {
+        final InputModel inputModel = new InputModel();
+        inputModel.setNumberOfPeople(SLIDER_VALUE);
+        inputModel.setCapacity(CAPACITY);
+        final HeadlessSimulationEngine engine = new HeadlessSimulationEngine(inputModel, DAYS);
+
+        final SimulationReport report = engine.run();
+
+        final int ticksPerDay = ConstantAndResourceLoader.SECONDS_IN_A_DAY
+                / (ConstantAndResourceLoader.MINUTES_IN_A_SECOND * ConstantAndResourceLoader.SECONDS_IN_A_MINUTE);
+        assertEquals((long) DAYS * ticksPerDay, report.ticks());
+        assertEquals(DAYS, report.days());
+        assertEquals(3, report.peopleStateCounts().size());
+        assertEquals(engine.getCityModel().getTransportLines().size(), report.linesCongestion().size());
+        assertTrue(report.ticksPerSecond() > 0);
+        assertFalse(engine.getCityModel().getClockModel().tick());
+    }
+
+    @Test
+    void testParallelRunCompletesAllTicks() {
+        final InputModel inputModel = new InputModel();
+        inputModel.setNumberOfPeople(SLIDER_VALUE);
+        inputModel.setCapacity(CAPACITY);
+        inputModel.setParallelUpdate(true);
+        final HeadlessSimulationEngine engine = new HeadlessSimulationEngine(inputModel, DAYS);
+
+        final SimulationReport report = engine.run();
+
+        assertEquals(3, report.peopleStateCounts().size());
+        assertFalse(engine.getCityModel().getClockModel().tick());
+    }
+
+    @Test
+    void testSameSeedGivesSameResultInBothModes() {
+        final SimulationReport sequential = runWithSeed(false);
+        final SimulationReport parallel = runWithSeed(true);
+
+        assertEquals(sequential.peopleStateCounts(), parallel.peopleStateCounts());
+        assertEquals(sequential.linesCongestion(), parallel.linesCongestion());
+        assertEquals(sequential.businessesOccupation(), parallel.businessesOccupation());
+        assertEquals(sequential.averageMoney(), parallel.averageMoney());
+    }
+
+    private static SimulationReport runWithSeed(final boolean parallelUpdate) {
+        final InputModel inputModel = new InputModel();
+        inputModel.setNumberOfPeople(SLIDER_VALUE);
+        inputModel.setCapacity(CAPACITY);
+        inputModel.setSeed(SEED);
+        inputModel.setParallelUpdate(parallelUpdate);
+        return new HeadlessSimulationEngine(inputModel, DAYS).run();
+    }
+}
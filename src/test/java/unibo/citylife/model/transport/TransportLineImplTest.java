@@ -5,10 +5,13 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import unibo.citysimulation.model.transport.api.TransportLine;
+import unibo.citysimulation.model.transport.api.WaitingRider;
 import unibo.citysimulation.model.transport.impl.TransportFactoryImpl;
 import unibo.citysimulation.model.zone.Zone;
 import unibo.citysimulation.model.zone.ZoneCreation;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.IntStream;
 
 //test for class transportLineImpl
 class TransportLineImplTest {
@@ -29,6 +32,17 @@ class TransportLineImplTest {
         assertEquals(expectedDuration, actualDuration, "The duration of the transport line should be " + expectedDuration);
     }
 
+    @Test
+    void testIncrementAndDecrementCohortInLine() {
+        final TransportLine line = transports.get(0);
+        line.incrementPersonInLine(5);
+        assertEquals(5, line.getPersonInLine(), "A cohort of 5 should board at once");
+        line.decrementPersonInLine(3);
+        assertEquals(2, line.getPersonInLine(), "A cohort of 3 should leave at once");
+        line.decrementPersonInLine(3);
+        assertEquals(0, line.getPersonInLine(), "The number of people in line should never go below 0");
+    }
+
     @Test
     void testIncrementAndDecrementPersonInLine() {
         final TransportLine line = transports.get(0);
@@ -37,5 +51,56 @@ class TransportLineImplTest {
         line.decrementPersonInLine();
         assertEquals(0, line.getPersonInLine(), "The number of people in line should be 0 after decrementing");
     }
-}
 
+    @Test
+    void testConcurrentUpdatesOfPersonInLine() {
+        final TransportLine line = transports.get(0);
+        final int updates = 10_000;
+        IntStream.range(0, updates).parallel().forEach(i -> line.incrementPersonInLine());
+        assertEquals(updates, line.getPersonInLine(), "No increment should be lost");
+        IntStream.range(0, updates + 1).parallel().forEach(i -> line.decrementPersonInLine());
+        assertEquals(0, line.getPersonInLine(), "The number of people in line should never go below 0");
+    }
+
+    @Test
+    void testWaitingRidersBoardInOrderWhenTheLineHasRoom() {
+        final TransportLine line = transports.get(0);
+        line.setCapacity(2);
+        line.incrementPersonInLine(2);
+        final List<String> order = new ArrayList<>();
+        line.addWaitingRider(new FakeRider("first", line, order), 0);
+        line.addWaitingRider(new FakeRider("second", line, order), 300);
+        assertEquals(2, line.getWaitingPeople(), "Both riders should be waiting");
+
+        final List<WaitingRider> boarded = new ArrayList<>();
+        line.admitWaitingRiders(600, boarded::add);
+        assertEquals(0, boarded.size(), "Nobody should board a congested line");
+
+        line.decrementPersonInLine();
+        line.admitWaitingRiders(900, boarded::add);
+        assertEquals(List.of("first"), order, "The first rider waiting should board first");
+        assertEquals(1, line.getWaitingPeople(), "The second rider should still be waiting");
+        assertEquals(900, line.getAverageWaitingTime(), "The first rider waited 900 seconds");
+
+        line.decrementPersonInLine();
+        line.admitWaitingRiders(1200, boarded::add);
+        assertEquals(List.of("first", "second"), order, "The second rider should board when the line has room");
+        assertEquals(0, line.getWaitingPeople(), "Nobody should be waiting");
+        assertEquals(900, line.getAverageWaitingTime(), "Both riders waited 900 seconds");
+        assertEquals(2, boarded.size(), "Both riders should have boarded");
+    }
+
+    private record FakeRider(String name, TransportLine line, List<String> order) implements WaitingRider {
+        @Override
+        public boolean board(final int currentTime) {
+            line.incrementPersonInLine();
+            order.add(name);
+            return true;
+        }
+
+        @Override
+        public int getCohortSize() {
+            return 1;
+        }
+    }
+}
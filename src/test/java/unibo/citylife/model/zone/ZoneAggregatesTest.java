@@ -0,0 +1,54 @@
+package unibo.citylife.model.zone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import unibo.citysimulation.model.business.impl.Business;
+import unibo.citysimulation.model.business.impl.BusinessFactoryImpl;
+import unibo.citysimulation.model.business.impl.Employee;
+import unibo.citysimulation.model.business.utilities.BusinessType;
+import unibo.citysimulation.model.person.api.DynamicPerson;
+import unibo.citysimulation.model.person.api.PersonData;
+import unibo.citysimulation.model.person.impl.DynamicPersonImpl;
+import unibo.citysimulation.model.transport.api.TransportLine;
+import unibo.citysimulation.model.transport.impl.TransportFactoryImpl;
+import unibo.citysimulation.model.zone.Zone;
+import unibo.citysimulation.model.zone.ZoneAggregates;
+import unibo.citysimulation.model.zone.ZoneCreation;
+import unibo.citysimulation.model.zone.ZoneTableCreation;
+
+class ZoneAggregatesTest {
+    private final List<Zone> zones = ZoneCreation.createZonesFromFile();
+    private final List<TransportLine> transports = new TransportFactoryImpl().createTransportsFromFile(zones);
+
+    @Test
+    void testTotalsFollowHiresAndFires() {
+        ZoneTableCreation.createAndAddPairs(zones, transports);
+        final Zone zone = zones.get(0);
+        final Business business = new BusinessFactoryImpl().createBusiness(BusinessType.BIG, zone).get();
+        final DynamicPerson person = new DynamicPersonImpl(new PersonData("worker", 30, business, zones.get(1)), 100);
+        final ZoneAggregates aggregates = new ZoneAggregates(zones, transports, List.of(business),
+            List.of(List.of(person)));
+        business.setEmploymentListener(aggregates);
+
+        assertEquals(1, aggregates.getResidents(zones.get(1).name()));
+        assertEquals(1, aggregates.getBusinesses(zone.name()));
+        assertEquals(transports.stream().filter(line -> line.getLink().getFirst().equals(zone)
+            || line.getLink().getSecond().equals(zone)).count(), aggregates.getDirectLines(zone));
+
+        final Employee employee = new Employee(person, business.getBusinessData(),
+            business.getBusinessData().maxTardiness() + 1);
+        business.hire(employee);
+        assertEquals(1, aggregates.getEmployees(zone));
+        assertEquals(business.calculatePay(), aggregates.getPayroll(zone));
+        assertEquals(business.calculatePay(), aggregates.getAveragePayroll(zone));
+
+        business.fire(employee);
+        business.fire(employee);
+        assertEquals(0, aggregates.getEmployees(zone), "Firing twice should be counted once");
+        assertEquals(0, aggregates.getPayroll(zone));
+    }
+}
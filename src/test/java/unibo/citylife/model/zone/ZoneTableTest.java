@@ -0,0 +1,52 @@
+package unibo.citylife.model.zone;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import unibo.citysimulation.model.transport.api.TransportLine;
+import unibo.citysimulation.model.transport.impl.TransportFactoryImpl;
+import unibo.citysimulation.model.zone.Zone;
+import unibo.citysimulation.model.zone.ZoneCreation;
+import unibo.citysimulation.model.zone.ZoneTable;
+import unibo.citysimulation.model.zone.ZoneTableCreation;
+
+class ZoneTableTest {
+    private static final int SECONDS_IN_MINUTE = 60;
+    private final List<Zone> zones = ZoneCreation.createZonesFromFile();
+    private final List<TransportLine> lines = new TransportFactoryImpl().createTransportsFromFile(zones);
+    private final ZoneTable zoneTable = ZoneTable.getInstance();
+
+    @BeforeEach
+    void setUp() {
+        ZoneTableCreation.createAndAddPairs(zones, lines);
+    }
+
+    @Test
+    void testDirectLineIsUsed() {
+        assertArrayEquals(new TransportLine[]{lines.get(2)}, zoneTable.getTransportLine(zones.get(0), zones.get(3)));
+        assertArrayEquals(new TransportLine[]{lines.get(2)}, zoneTable.getTransportLine(zones.get(3), zones.get(0)));
+    }
+
+    @Test
+    void testFastestPathIsUsed() {
+        final TransportLine[] route = zoneTable.getTransportLine(zones.get(2), zones.get(4));
+        assertArrayEquals(new TransportLine[]{lines.get(1), lines.get(3)}, route);
+        assertArrayEquals(new TransportLine[]{lines.get(3), lines.get(1)},
+            zoneTable.getTransportLine(zones.get(4), zones.get(2)));
+        assertEquals((lines.get(1).getDuration() + lines.get(3).getDuration()) * SECONDS_IN_MINUTE,
+            zoneTable.getTripDuration(zones.get(2), zones.get(4)));
+        assertEquals(zoneTable.getTripDuration(route), zoneTable.getTripDuration(zones.get(2), zones.get(4)));
+    }
+
+    @Test
+    void testNoRouteInsideAZone() {
+        assertNull(zoneTable.getTransportLine(zones.get(0), zones.get(0)));
+        assertEquals(-1, zoneTable.getTripDuration(zones.get(0), zones.get(0)));
+    }
+}